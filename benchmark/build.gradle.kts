@@ -0,0 +1,39 @@
+plugins {
+    id("geckolib-convention")
+
+    alias(libs.plugins.moddevgradle)
+    alias(libs.plugins.jmh)
+}
+
+version = libs.versions.geckolib.get()
+
+base {
+    archivesName = "geckolib-benchmark-${libs.versions.minecraft.asProvider().get()}"
+}
+
+neoForge {
+    neoFormVersion = libs.versions.neoform.get()
+    accessTransformers.files.setFrom(project(":common").file("src/main/resources/META-INF/accesstransformer-nf.cfg"))
+
+    parchment.minecraftVersion.set(libs.versions.parchment.minecraft.get())
+    parchment.mappingsVersion.set(libs.versions.parchment.asProvider().get())
+
+    addModdingDependenciesTo(sourceSets["jmh"])
+}
+
+dependencies {
+    jmhImplementation(project(":common"))
+}
+
+// Run with ./gradlew :benchmark:jmh
+// Results are reported per animatable, per render frame
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    profilers.add("gc")
+    zip64 = true
+    resultFormat = "JSON"
+}
+
+tasks.withType<Javadoc>().configureEach {
+    enabled = false
+}
@@ -0,0 +1,90 @@
+package software.bernie.geckolib.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.bernie.geckolib.animation.AnimatableManager;
+import software.bernie.geckolib.animation.AnimationController;
+import software.bernie.geckolib.animation.AnimationProcessor;
+import software.bernie.geckolib.animation.AnimationState;
+import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-frame cost of animating a single animatable instance
+ * <p>
+ * Each invocation represents one render frame for one animatable at 60fps, so the reported ns/op and
+ * {@code gc.alloc.rate.norm} are per animatable, per frame.
+ * <p>
+ * Run via {@code ./gradlew :benchmark:jmh}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimationTickBenchmark {
+	private static final double TICKS_PER_FRAME = 20 / 60d;
+
+	@Param({"10", "50", "200"})
+	public int bones;
+
+	@Param({"1", "4", "16"})
+	public int controllers;
+
+	private BenchmarkAnimatable animatable;
+	private BenchmarkGeoModel model;
+	private AnimatableManager<BenchmarkAnimatable> manager;
+	private AnimationState<BenchmarkAnimatable> animationState;
+	private double animTime;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.animatable = new BenchmarkAnimatable(this.controllers);
+		this.model = new BenchmarkGeoModel(SyntheticAssets.buildModel(this.bones), SyntheticAssets.buildAnimations(this.bones, this.controllers));
+		this.manager = new AnimatableManager<>(this.animatable);
+		this.animationState = new AnimationState<>(this.animatable, 0, 0, 0, false);
+		this.animTime = 0;
+
+		// Run the first frame outside the measurement so the controllers have their animations queued and snapshots populated
+		tickAnimation();
+	}
+
+	/**
+	 * The full per-frame animation path: controller processing, keyframe sampling, easing, and bone application
+	 */
+	@Benchmark
+	public float tickAnimation() {
+		AnimationProcessor<BenchmarkAnimatable> processor = this.model.getAnimationProcessor();
+
+		this.animTime += TICKS_PER_FRAME;
+		this.animationState.animationTick = this.animTime;
+
+		processor.tickAnimation(this.animatable, this.model, this.manager, this.animTime, this.animationState, false);
+
+		return this.manager.getPose().getRotX(processor.getBone(SyntheticAssets.boneName(this.bones - 1)).getIndex());
+	}
+
+	/**
+	 * Only the {@link AnimationController#process} stage of the frame, which builds the bone animation queues
+	 */
+	@Benchmark
+	public int controllerProcess() {
+		BakedGeoModel bakedModel = this.model.getAnimationProcessor().getActiveModel();
+		BoneSnapshot[] snapshots = this.manager.getBoneSnapshots(bakedModel);
+		int queueCount = 0;
+
+		this.animTime += TICKS_PER_FRAME;
+		this.animationState.animationTick = this.animTime;
+
+		for (AnimationController<BenchmarkAnimatable> controller : this.manager.getAnimationControllers().values()) {
+			this.animationState.withController(controller);
+			controller.process(this.model, this.animationState, bakedModel, snapshots, this.animTime, false);
+
+			queueCount += controller.getActiveBoneAnimationQueues().size();
+		}
+
+		return queueCount;
+	}
+}
@@ -0,0 +1,39 @@
+package software.bernie.geckolib.benchmark;
+
+import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animatable.instance.AnimatableInstanceCache;
+import software.bernie.geckolib.animatable.instance.InstancedAnimatableInstanceCache;
+import software.bernie.geckolib.animation.AnimatableManager;
+import software.bernie.geckolib.animation.AnimationController;
+import software.bernie.geckolib.animation.RawAnimation;
+
+/**
+ * Minimal {@link GeoAnimatable} with no ties to the level, registering one always-playing controller per synthetic animation
+ */
+public final class BenchmarkAnimatable implements GeoAnimatable {
+	private final AnimatableInstanceCache cache = new InstancedAnimatableInstanceCache(this);
+	private final int controllerCount;
+
+	public BenchmarkAnimatable(int controllerCount) {
+		this.controllerCount = controllerCount;
+	}
+
+	@Override
+	public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {
+		for (int i = 0; i < this.controllerCount; i++) {
+			final RawAnimation animation = RawAnimation.begin().thenLoop(SyntheticAssets.animationName(i));
+
+			controllers.add(new AnimationController<>(this, "controller_" + i, 5, state -> state.setAndContinue(animation)));
+		}
+	}
+
+	@Override
+	public AnimatableInstanceCache getAnimatableInstanceCache() {
+		return this.cache;
+	}
+
+	@Override
+	public double getTick(Object object) {
+		return 0;
+	}
+}
@@ -0,0 +1,59 @@
+package software.bernie.geckolib.benchmark;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.loading.object.BakedAnimations;
+import software.bernie.geckolib.model.GeoModel;
+import software.bernie.geckolib.renderer.GeoRenderer;
+
+/**
+ * {@link GeoModel} that serves synthetic assets directly, bypassing {@link software.bernie.geckolib.cache.GeckoLibCache GeckoLibCache}
+ */
+public final class BenchmarkGeoModel extends GeoModel<BenchmarkAnimatable> {
+	private static final ResourceLocation MODEL = GeckoLibConstants.id("geo/benchmark.geo.json");
+	private static final ResourceLocation TEXTURE = GeckoLibConstants.id("textures/benchmark.png");
+	private static final ResourceLocation ANIMATIONS = GeckoLibConstants.id("animations/benchmark.animation.json");
+
+	private final BakedGeoModel bakedModel;
+	private final BakedAnimations bakedAnimations;
+
+	public BenchmarkGeoModel(BakedGeoModel bakedModel, BakedAnimations bakedAnimations) {
+		this.bakedModel = bakedModel;
+		this.bakedAnimations = bakedAnimations;
+
+		getAnimationProcessor().setActiveModel(bakedModel);
+	}
+
+	public BakedGeoModel getBakedModel() {
+		return this.bakedModel;
+	}
+
+	@Override
+	public BakedGeoModel getBakedModel(ResourceLocation location) {
+		return this.bakedModel;
+	}
+
+	@Override
+	public ResourceLocation getModelResource(BenchmarkAnimatable animatable, @Nullable GeoRenderer<BenchmarkAnimatable> renderer) {
+		return MODEL;
+	}
+
+	@Override
+	public ResourceLocation getTextureResource(BenchmarkAnimatable animatable, @Nullable GeoRenderer<BenchmarkAnimatable> renderer) {
+		return TEXTURE;
+	}
+
+	@Override
+	public ResourceLocation getAnimationResource(BenchmarkAnimatable animatable) {
+		return ANIMATIONS;
+	}
+
+	@Nullable
+	@Override
+	public Animation getAnimation(BenchmarkAnimatable animatable, String name) {
+		return this.bakedAnimations.getAnimation(name);
+	}
+}
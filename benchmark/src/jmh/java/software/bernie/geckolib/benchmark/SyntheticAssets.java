@@ -0,0 +1,121 @@
+package software.bernie.geckolib.benchmark;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.joml.Vector3f;
+import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.EasingType;
+import software.bernie.geckolib.animation.keyframe.BoneAnimation;
+import software.bernie.geckolib.animation.keyframe.Keyframe;
+import software.bernie.geckolib.animation.keyframe.KeyframeStack;
+import software.bernie.geckolib.animation.keyframe.event.data.CustomInstructionKeyframeData;
+import software.bernie.geckolib.animation.keyframe.event.data.ParticleKeyframeData;
+import software.bernie.geckolib.animation.keyframe.event.data.SoundKeyframeData;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+import software.bernie.geckolib.loading.json.raw.ModelProperties;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Constant;
+import software.bernie.geckolib.loading.object.BakedAnimations;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builders for deterministic in-memory {@link BakedGeoModel BakedGeoModels} and {@link BakedAnimations}
+ * <p>
+ * These stand in for the json-loaded assets so that the animation pipeline can be measured without a running game
+ */
+public final class SyntheticAssets {
+	private static final EasingType[] EASINGS = {EasingType.LINEAR, EasingType.EASE_IN_OUT_SINE, EasingType.EASE_OUT_BOUNCE, EasingType.EASE_IN_CUBIC};
+	private static final int KEYFRAMES_PER_TRACK = 4;
+	private static final double KEYFRAME_LENGTH = 10;
+
+	private SyntheticAssets() {}
+
+	/**
+	 * Build a model with the given number of bones, arranged as a shallow tree of up to four bones per chain
+	 * <p>
+	 * This roughly mirrors the structure of a typical mob model (body -> limb -> segment -> tip)
+	 */
+	public static BakedGeoModel buildModel(int boneCount) {
+		List<GeoBone> topLevelBones = new ObjectArrayList<>();
+		GeoBone root = new GeoBone(null, boneName(0), false, null, null, null);
+		GeoBone chainParent = root;
+
+		topLevelBones.add(root);
+
+		for (int i = 1; i < boneCount; i++) {
+			if (i % 4 == 1)
+				chainParent = root;
+
+			GeoBone bone = new GeoBone(chainParent, boneName(i), false, null, null, null, new Vector3f(0, i % 16, 0), new Vector3f());
+
+			chainParent.getChildBones().add(bone);
+
+			chainParent = bone;
+		}
+
+		return new BakedGeoModel(topLevelBones, new ModelProperties(null, null, null, null, null, null, null, null, null, null,
+				"geometry.benchmark", null, 64, 64, null, new double[] {0, 0}, null));
+	}
+
+	/**
+	 * Build an animation collection containing one looping animation per controller
+	 * <p>
+	 * Every animation rotates every bone, and translates and scales every other bone, to give each controller a comparable workload
+	 */
+	public static BakedAnimations buildAnimations(int boneCount, int controllerCount) {
+		Map<String, Animation> animations = new Object2ObjectOpenHashMap<>(controllerCount);
+
+		for (int controller = 0; controller < controllerCount; controller++) {
+			BoneAnimation[] boneAnimations = new BoneAnimation[boneCount];
+
+			for (int bone = 0; bone < boneCount; bone++) {
+				int seed = controller * boneCount + bone;
+				boolean fullTransform = bone % 2 == 0;
+
+				boneAnimations[bone] = new BoneAnimation(boneName(bone),
+						buildStack(seed, 0.35d),
+						fullTransform ? buildStack(seed + 1, 2d) : new KeyframeStack<>(),
+						fullTransform ? buildScaleStack(seed + 2) : new KeyframeStack<>());
+			}
+
+			animations.put(animationName(controller), new Animation(animationName(controller), KEYFRAMES_PER_TRACK * KEYFRAME_LENGTH, Animation.LoopType.LOOP, boneAnimations,
+					new Animation.Keyframes(new SoundKeyframeData[0], new ParticleKeyframeData[0], new CustomInstructionKeyframeData[0])));
+		}
+
+		return new BakedAnimations(animations);
+	}
+
+	public static String boneName(int index) {
+		return "bone_" + index;
+	}
+
+	public static String animationName(int controllerIndex) {
+		return "animation.benchmark.controller_" + controllerIndex;
+	}
+
+	private static KeyframeStack<Keyframe<MathValue>> buildStack(int seed, double amplitude) {
+		return new KeyframeStack<>(buildTrack(seed, amplitude, 0), buildTrack(seed + 7, amplitude, 0), buildTrack(seed + 13, amplitude, 0));
+	}
+
+	private static KeyframeStack<Keyframe<MathValue>> buildScaleStack(int seed) {
+		return new KeyframeStack<>(buildTrack(seed, 0.25d, 1), buildTrack(seed + 7, 0.25d, 1), buildTrack(seed + 13, 0.25d, 1));
+	}
+
+	private static List<Keyframe<MathValue>> buildTrack(int seed, double amplitude, double base) {
+		List<Keyframe<MathValue>> keyframes = new ObjectArrayList<>(KEYFRAMES_PER_TRACK);
+		MathValue lastValue = new Constant(base);
+
+		for (int i = 0; i < KEYFRAMES_PER_TRACK; i++) {
+			MathValue nextValue = new Constant(i == KEYFRAMES_PER_TRACK - 1 ? base : base + amplitude * Math.sin(seed + i));
+
+			keyframes.add(new Keyframe<>(KEYFRAME_LENGTH, lastValue, nextValue, EASINGS[(seed + i) % EASINGS.length]));
+
+			lastValue = nextValue;
+		}
+
+		return keyframes;
+	}
+}
@@ -6,7 +6,10 @@ import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 
 import java.util.Arrays;
@@ -21,6 +24,15 @@ import java.util.Map;
  */
 public class AnimatableManager<T extends GeoAnimatable> {
 	private final Map<String, BoneSnapshot> boneSnapshotCollection = new Object2ObjectOpenHashMap<>();
+	private final BonePoseBuffer pose = new BonePoseBuffer();
+	private BonePoseBuffer latestPose = new BonePoseBuffer();
+	private BonePoseBuffer previousPose = new BonePoseBuffer();
+	private double poseTime = -1;
+	private double previousPoseTime = -1;
+	private long poseFrame = -1;
+	private float poseBlend = 1;
+	private BakedGeoModel snapshotModel = null;
+	private BoneSnapshot[] boneSnapshots = new BoneSnapshot[0];
 	private final Map<String, AnimationController<T>> animationControllers;
 	private Map<DataTicket<?>, Object> extraData;
 
@@ -63,8 +75,129 @@ public class AnimatableManager<T extends GeoAnimatable> {
 		return this.boneSnapshotCollection;
 	}
 
+	/**
+	 * Get the {@link BonePoseBuffer} holding this instance's bone pose
+	 * <p>
+	 * This is written to when the instance is animated, and read from when it is rendered
+	 *
+	 * @see AnimationPrePass
+	 */
+	public BonePoseBuffer getPose() {
+		return this.pose;
+	}
+
+	/**
+	 * Store a copy of this instance's current pose as its latest computed pose, keeping the prior one for interpolation
+	 *
+	 * @param animTime The animation time (in ticks) the pose was computed for
+	 * @param frame The frame id the pose was computed in
+	 * @see AnimationThrottle
+	 */
+	public void capturePose(double animTime, long frame) {
+		BonePoseBuffer oldPose = this.previousPose;
+		this.previousPose = this.latestPose;
+		this.latestPose = oldPose;
+		this.previousPoseTime = this.poseTime;
+		this.poseTime = animTime;
+		this.poseFrame = frame;
+		this.poseBlend = 1;
+
+		this.latestPose.set(this.pose);
+	}
+
+	/**
+	 * Discard this instance's stored pose history, so that stale poses aren't interpolated from if pose capturing resumes later
+	 */
+	public void clearPoseHistory() {
+		if (this.latestPose.getModel() == null && this.previousPose.getModel() == null)
+			return;
+
+		this.latestPose.invalidate();
+		this.previousPose.invalidate();
+		this.poseTime = -1;
+		this.previousPoseTime = -1;
+	}
+
+	/**
+	 * @return Whether this manager holds two computed poses for the given model that can be interpolated between
+	 */
+	public boolean hasPoseHistory(BakedGeoModel model) {
+		return this.latestPose.getModel() == model && this.previousPose.getModel() == model && this.previousPoseTime >= 0;
+	}
+
+	/**
+	 * @return The animation time (in ticks) the latest pose was computed for
+	 */
+	public double getLastPoseTime() {
+		return this.poseTime;
+	}
+
+	/**
+	 * @return The frame id the latest pose was computed in
+	 */
+	public long getLastPoseFrame() {
+		return this.poseFrame;
+	}
+
+	/**
+	 * Set how far between the previous pose (0) and the latest pose (1) the instance should be displayed at, based on the given animation time
+	 * <p>
+	 * The blend advances by one full step over the time it took between the previous pose and the latest pose
+	 *
+	 * @param animTime The current animation time (in ticks)
+	 * @return The new blend value
+	 */
+	public float updatePoseBlend(double animTime) {
+		double interval = this.poseTime - this.previousPoseTime;
+
+		this.poseBlend = interval <= 0 ? 1 : (float)Math.clamp((animTime - this.poseTime) / interval, 0, 1);
+
+		return this.poseBlend;
+	}
+
+	/**
+	 * Set how far between the previous pose (0) and the latest pose (1) the instance should be displayed at
+	 */
+	public void setPoseBlend(float blend) {
+		this.poseBlend = blend;
+	}
+
+	/**
+	 * Set this instance's {@link #getPose() pose} from its stored pose history, interpolating between the previous and latest poses as per the {@link #updatePoseBlend pose blend}
+	 */
+	public void applyPoseHistory() {
+		this.pose.interpolate(this.previousPose, this.latestPose, this.poseBlend);
+	}
+
+	/**
+	 * Get this manager's {@link BoneSnapshot BoneSnapshots} for the given model, as an array indexed by {@link GeoBone#getIndex() bone index}
+	 * <p>
+	 * Missing snapshots are created from each bone's initial snapshot. The array shares its instances with {@link #getBoneSnapshotCollection()},
+	 * and is only rebuilt when the model changes or the snapshot cache is cleared
+	 */
+	public BoneSnapshot[] getBoneSnapshots(BakedGeoModel model) {
+		if (this.snapshotModel != model) {
+			Map<String, BoneSnapshot> snapshotCollection = getBoneSnapshotCollection();
+			List<GeoBone> bones = model.bones();
+			BoneSnapshot[] snapshots = new BoneSnapshot[bones.size()];
+
+			for (int i = 0; i < snapshots.length; i++) {
+				GeoBone bone = bones.get(i);
+				snapshots[i] = snapshotCollection.computeIfAbsent(bone.getName(), name -> BoneSnapshot.copy(bone.getInitialSnapshot()));
+			}
+
+			this.boneSnapshots = snapshots;
+			this.snapshotModel = model;
+		}
+
+		return this.boneSnapshots;
+	}
+
 	public void clearSnapshotCache() {
 		getBoneSnapshotCollection().clear();
+
+		this.snapshotModel = null;
+		this.boneSnapshots = new BoneSnapshot[0];
 	}
 
 	public double getLastUpdateTime() {
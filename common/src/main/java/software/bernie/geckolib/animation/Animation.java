@@ -7,23 +7,69 @@ package software.bernie.geckolib.animation;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animation.keyframe.BoneAnimation;
+import software.bernie.geckolib.animation.keyframe.Keyframe;
+import software.bernie.geckolib.animation.keyframe.KeyframeStack;
 import software.bernie.geckolib.animation.keyframe.event.data.CustomInstructionKeyframeData;
 import software.bernie.geckolib.animation.keyframe.event.data.ParticleKeyframeData;
 import software.bernie.geckolib.animation.keyframe.event.data.SoundKeyframeData;
+import software.bernie.geckolib.loading.math.MathParser;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.MolangQueries;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A compiled animation instance for use by the {@link AnimationController}
  * <p>
  * Modifications or extensions of a compiled Animation are not supported, and therefore an instance of <code>Animation</code> is considered final and immutable
+ *
+ * @param molangVariables The names of all Molang {@link software.bernie.geckolib.loading.math.value.Variable Variables} (including queries) used by this animation's keyframes
  */
-public record Animation(String name, double length, LoopType loopType, BoneAnimation[] boneAnimations, Keyframes keyFrames) {
+public record Animation(String name, double length, LoopType loopType, BoneAnimation[] boneAnimations, Keyframes keyFrames, Set<String> molangVariables) {
 	public record Keyframes(SoundKeyframeData[] sounds, ParticleKeyframeData[] particles, CustomInstructionKeyframeData[] customInstructions) {}
 
+	public Animation(String name, double length, LoopType loopType, BoneAnimation[] boneAnimations, Keyframes keyFrames) {
+		this(name, length, loopType, boneAnimations, keyFrames, findMolangVariables(boneAnimations));
+	}
+
+	/**
+	 * @return Whether this animation uses any Molang variables or queries, and so needs the {@link MolangQueries.Actor actor} to be set up when animating
+	 */
+	public boolean usesMolangVariables() {
+		return !this.molangVariables.isEmpty();
+	}
+
+	private static Set<String> findMolangVariables(BoneAnimation[] boneAnimations) {
+		Set<String> variables = new ObjectOpenHashSet<>();
+
+		for (BoneAnimation boneAnimation : boneAnimations) {
+			findMolangVariables(boneAnimation.rotationKeyFrames(), variables);
+			findMolangVariables(boneAnimation.positionKeyFrames(), variables);
+			findMolangVariables(boneAnimation.scaleKeyFrames(), variables);
+		}
+
+		return variables.isEmpty() ? Set.of() : Set.copyOf(variables);
+	}
+
+	private static void findMolangVariables(KeyframeStack<Keyframe<MathValue>> stack, Set<String> variables) {
+		for (List<Keyframe<MathValue>> keyframes : List.of(stack.xKeyframes(), stack.yKeyframes(), stack.zKeyframes())) {
+			for (Keyframe<MathValue> keyframe : keyframes) {
+				MathParser.collectVariables(keyframe.startValue(), variables);
+				MathParser.collectVariables(keyframe.endValue(), variables);
+
+				for (MathValue easingArg : keyframe.easingArgs()) {
+					MathParser.collectVariables(easingArg, variables);
+				}
+			}
+		}
+	}
+
 	static Animation generateWaitAnimation(double length) {
 		return new Animation(RawAnimation.Stage.WAIT, length, LoopType.PLAY_ONCE, new BoneAnimation[0],
 				new Keyframes(new SoundKeyframeData[0], new ParticleKeyframeData[0], new CustomInstructionKeyframeData[0]));
@@ -1,6 +1,7 @@
 package software.bernie.geckolib.animation;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.core.Direction.Axis;
 import org.apache.logging.log4j.Level;
@@ -16,6 +17,7 @@ import software.bernie.geckolib.animation.keyframe.event.data.KeyFrameData;
 import software.bernie.geckolib.animation.keyframe.event.data.ParticleKeyframeData;
 import software.bernie.geckolib.animation.keyframe.event.data.SoundKeyframeData;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.loading.math.MathParser;
 import software.bernie.geckolib.loading.math.MathValue;
@@ -38,9 +40,18 @@ public class AnimationController<T extends GeoAnimatable> {
 	protected final AnimationStateHandler<T> stateHandler;
 	protected final Map<String, BoneAnimationQueue> boneAnimationQueues = new Object2ObjectOpenHashMap<>();
 	protected final Map<String, BoneSnapshot> boneSnapshots = new Object2ObjectOpenHashMap<>();
+	private final List<BoneAnimationQueue> activeBoneAnimationQueues = new ObjectArrayList<>();
+	private BoneAnimationQueue[] boneAnimationQueueArray = new BoneAnimationQueue[0];
+	private BoneSnapshot[] transitionSnapshots = new BoneSnapshot[0];
+	private BakedGeoModel queueModel = null;
+	private Animation mappedAnimation = null;
+	private BakedGeoModel mappedModel = null;
+	private int[] animationBoneIndices = new int[0];
 	protected Queue<AnimationProcessor.QueuedAnimation> animationQueue = new LinkedList<>();
 
 	protected boolean isJustStarting = false;
+	@Nullable
+	protected boolean[] heldBones = null;
 	protected boolean needsAnimationReload = false;
 	protected boolean shouldResetTick = false;
 	private boolean justStopped = true;
@@ -274,6 +285,13 @@ public class AnimationController<T extends GeoAnimatable> {
 		return this.boneAnimationQueues;
 	}
 
+	/**
+	 * Gets the {@link BoneAnimationQueue BoneAnimationQueues} that were populated by this controller in the last call to {@link #process}
+	 */
+	public List<BoneAnimationQueue> getActiveBoneAnimationQueues() {
+		return this.activeBoneAnimationQueues;
+	}
+
 	/**
 	 * Gets the current animation speed modifier
 	 * <p>
@@ -453,8 +471,34 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * @param snapshots             The {@link BoneSnapshot} map
 	 * @param seekTime              The current tick + partial tick
 	 * @param crashWhenCantFindBone Whether to hard-fail when a bone can't be found, or to continue with the remaining bones
+	 * @deprecated Use {@link #process(GeoModel, AnimationState, BakedGeoModel, BoneSnapshot[], double, boolean)}
 	 */
+	@Deprecated(forRemoval = true)
 	public void process(GeoModel<T> model, AnimationState<T> state, Map<String, GeoBone> bones, Map<String, BoneSnapshot> snapshots, final double seekTime, boolean crashWhenCantFindBone) {
+		BakedGeoModel bakedModel = model.getAnimationProcessor().getActiveModel();
+		BoneSnapshot[] snapshotArray = new BoneSnapshot[bakedModel.boneCount()];
+
+		for (GeoBone bone : bakedModel.bones()) {
+			snapshotArray[bone.getIndex()] = snapshots.computeIfAbsent(bone.getName(), key -> BoneSnapshot.copy(bone.getInitialSnapshot()));
+		}
+
+		process(model, state, bakedModel, snapshotArray, seekTime, crashWhenCantFindBone);
+	}
+
+	/**
+	 * This method is called every frame in order to populate the animation point
+	 * queues, and process animation state logic
+	 *
+	 * @param model					The model currently being processed
+	 * @param state                 The animation test state
+	 * @param bakedModel            The {@link BakedGeoModel} currently being animated
+	 * @param snapshots             The {@link BoneSnapshot BoneSnapshots} for the baked model, indexed by {@link GeoBone#getIndex() bone index}
+	 * @param seekTime              The current tick + partial tick
+	 * @param crashWhenCantFindBone Whether to hard-fail when a bone can't be found, or to continue with the remaining bones
+	 */
+	public void process(GeoModel<T> model, AnimationState<T> state, BakedGeoModel bakedModel, BoneSnapshot[] snapshots, final double seekTime, boolean crashWhenCantFindBone) {
+		this.activeBoneAnimationQueues.clear();
+
 		double adjustedTick = adjustTick(seekTime);
 		this.lastModel = model;
 
@@ -473,7 +517,7 @@ public class AnimationController<T extends GeoAnimatable> {
 			return;
 		}
 
-		createInitialQueues(bones.values());
+		createInitialQueues(bakedModel);
 
 		if (this.justStartedTransition && (this.shouldResetTick || this.justStopped)) {
 			this.justStopped = false;
@@ -494,7 +538,7 @@ public class AnimationController<T extends GeoAnimatable> {
 		}
 
 		if (getAnimationState() == State.RUNNING) {
-			processCurrentAnimation(adjustedTick, seekTime, crashWhenCantFindBone, state);
+			processCurrentAnimation(adjustedTick, seekTime, crashWhenCantFindBone, state, bakedModel);
 		}
 		else if (this.animationState == State.TRANSITIONING) {
 			if (this.lastPollTime != seekTime && (adjustedTick == 0 || this.isJustStarting)) {
@@ -507,50 +551,48 @@ public class AnimationController<T extends GeoAnimatable> {
 				if (this.currentAnimation == null)
 					return;
 
-				saveSnapshotsForAnimation(this.currentAnimation, snapshots);
+				saveSnapshotsForAnimation(this.currentAnimation, bakedModel, snapshots);
 			}
 
 			if (this.currentAnimation != null) {
-				MathParser.setVariable(MolangQueries.ANIM_TIME, () -> 0);
+				MathParser.getVariableFor(MolangQueries.ANIM_TIME).setForContext(0);
 
-				for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
-					BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
-					BoneSnapshot boneSnapshot = this.boneSnapshots.get(boneAnimation.boneName());
-					GeoBone bone = bones.get(boneAnimation.boneName());
+				BoneAnimation[] boneAnimations = this.currentAnimation.animation().boneAnimations();
+				int[] boneIndices = getAnimationBoneIndices(this.currentAnimation.animation(), bakedModel);
 
-					if (boneSnapshot == null)
-						continue;
-
-					if (bone == null) {
-						if (crashWhenCantFindBone)
-							throw new RuntimeException("Could not find bone: " + boneAnimation.boneName());
+				for (int i = 0; i < boneAnimations.length; i++) {
+					BoneAnimation boneAnimation = boneAnimations[i];
+					int boneIndex = boneIndices[i];
 
+					if (boneIndex == -1 || this.transitionSnapshots[boneIndex] == null)
 						continue;
-					}
+
+					BoneSnapshot boneSnapshot = this.transitionSnapshots[boneIndex];
+					GeoBone bone = bakedModel.bones().get(boneIndex);
+					BoneAnimationQueue boneAnimationQueue = activateQueue(boneIndex);
 
 					KeyframeStack<Keyframe<MathValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
 					KeyframeStack<Keyframe<MathValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
 					KeyframeStack<Keyframe<MathValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
 
 					if (!rotationKeyFrames.xKeyframes().isEmpty()) {
-						boneAnimationQueue.addNextRotation(null, adjustedTick, this.transitionLength, boneSnapshot, bone.getInitialSnapshot(),
-								getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), 0, true, Axis.X),
-								getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), 0, true, Axis.Y),
-								getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), 0, true, Axis.Z));
+						BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
+
+						boneAnimationQueue.addRotationXPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getRotX() - initialSnapshot.getRotX(), getTransitionEndValue(rotationKeyFrames.xKeyframes(), true, Axis.X));
+						boneAnimationQueue.addRotationYPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getRotY() - initialSnapshot.getRotY(), getTransitionEndValue(rotationKeyFrames.yKeyframes(), true, Axis.Y));
+						boneAnimationQueue.addRotationZPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getRotZ() - initialSnapshot.getRotZ(), getTransitionEndValue(rotationKeyFrames.zKeyframes(), true, Axis.Z));
 					}
 
 					if (!positionKeyFrames.xKeyframes().isEmpty()) {
-						boneAnimationQueue.addNextPosition(null, adjustedTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(positionKeyFrames.xKeyframes(), 0, false, Axis.X),
-								getAnimationPointAtTick(positionKeyFrames.yKeyframes(), 0, false, Axis.Y),
-								getAnimationPointAtTick(positionKeyFrames.zKeyframes(), 0, false, Axis.Z));
+						boneAnimationQueue.addPosXPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getOffsetX(), getTransitionEndValue(positionKeyFrames.xKeyframes(), false, Axis.X));
+						boneAnimationQueue.addPosYPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getOffsetY(), getTransitionEndValue(positionKeyFrames.yKeyframes(), false, Axis.Y));
+						boneAnimationQueue.addPosZPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getOffsetZ(), getTransitionEndValue(positionKeyFrames.zKeyframes(), false, Axis.Z));
 					}
 
 					if (!scaleKeyFrames.xKeyframes().isEmpty()) {
-						boneAnimationQueue.addNextScale(null, adjustedTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), 0, false, Axis.X),
-								getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), 0, false, Axis.Y),
-								getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), 0, false, Axis.Z));
+						boneAnimationQueue.addScaleXPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getScaleX(), getTransitionEndValue(scaleKeyFrames.xKeyframes(), false, Axis.X));
+						boneAnimationQueue.addScaleYPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getScaleY(), getTransitionEndValue(scaleKeyFrames.yKeyframes(), false, Axis.Y));
+						boneAnimationQueue.addScaleZPoint(null, adjustedTick, this.transitionLength, boneSnapshot.getScaleZ(), getTransitionEndValue(scaleKeyFrames.zKeyframes(), false, Axis.Z));
 					}
 				}
 			}
@@ -564,7 +606,7 @@ public class AnimationController<T extends GeoAnimatable> {
 	 * @param seekTime The lerped tick (current tick + partial tick)
 	 * @param crashWhenCantFindBone Whether the controller should throw an exception when unable to find the required bone, or continue with the remaining bones
 	 */
-	private void processCurrentAnimation(double adjustedTick, double seekTime, boolean crashWhenCantFindBone, AnimationState<T> animationState) {
+	private void processCurrentAnimation(double adjustedTick, double seekTime, boolean crashWhenCantFindBone, AnimationState<T> animationState, BakedGeoModel bakedModel) {
 		if (adjustedTick >= this.currentAnimation.animation().length()) {
 			if (this.currentAnimation.loopType().shouldPlayAgain(this.animatable, this, this.currentAnimation.animation())) {
 				if (this.animationState != State.PAUSED) {
@@ -593,43 +635,63 @@ public class AnimationController<T extends GeoAnimatable> {
 			}
 		}
 
-		final double finalAdjustedTick = adjustedTick;
+		MathParser.getVariableFor(MolangQueries.ANIM_TIME).setForContext(adjustedTick / 20d);
 
-		MathParser.setVariable(MolangQueries.ANIM_TIME, () -> finalAdjustedTick / 20d);
+		BoneAnimation[] boneAnimations = this.currentAnimation.animation().boneAnimations();
+		int[] boneIndices = getAnimationBoneIndices(this.currentAnimation.animation(), bakedModel);
+		boolean useSamples = this.overrideEasingTypeFunction.apply(this.animatable) == null;
 
-		for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
-			BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
+		for (int i = 0; i < boneAnimations.length; i++) {
+			BoneAnimation boneAnimation = boneAnimations[i];
+			int boneIndex = boneIndices[i];
 
-			if (boneAnimationQueue == null) {
+			if (boneIndex == -1) {
 				if (crashWhenCantFindBone)
 					throw new RuntimeException("Could not find bone: " + boneAnimation.boneName());
 
 				continue;
 			}
 
+			if (this.heldBones != null && this.heldBones[boneIndex])
+				continue;
+
+			BoneAnimationQueue boneAnimationQueue = activateQueue(boneIndex);
+
 			KeyframeStack<Keyframe<MathValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
 			KeyframeStack<Keyframe<MathValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
 			KeyframeStack<Keyframe<MathValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
 
 			if (!rotationKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addRotations(
-						getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), adjustedTick, true, Axis.X),
-						getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), adjustedTick, true, Axis.Y),
-						getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), adjustedTick, true, Axis.Z));
+				if (useSamples && rotationKeyFrames.samples() != null) {
+					rotationKeyFrames.samples().addPoints(boneAnimationQueue.rotationXQueue(), boneAnimationQueue.rotationYQueue(), boneAnimationQueue.rotationZQueue(), adjustedTick);
+				}
+				else {
+					addPointAtTick(boneAnimationQueue.rotationXQueue(), rotationKeyFrames.xKeyframes(), rotationKeyFrames.xEndTimes(), adjustedTick, true, Axis.X);
+					addPointAtTick(boneAnimationQueue.rotationYQueue(), rotationKeyFrames.yKeyframes(), rotationKeyFrames.yEndTimes(), adjustedTick, true, Axis.Y);
+					addPointAtTick(boneAnimationQueue.rotationZQueue(), rotationKeyFrames.zKeyframes(), rotationKeyFrames.zEndTimes(), adjustedTick, true, Axis.Z);
+				}
 			}
 
 			if (!positionKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addPositions(
-						getAnimationPointAtTick(positionKeyFrames.xKeyframes(), adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(positionKeyFrames.yKeyframes(), adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(positionKeyFrames.zKeyframes(), adjustedTick, false, Axis.Z));
+				if (useSamples && positionKeyFrames.samples() != null) {
+					positionKeyFrames.samples().addPoints(boneAnimationQueue.positionXQueue(), boneAnimationQueue.positionYQueue(), boneAnimationQueue.positionZQueue(), adjustedTick);
+				}
+				else {
+					addPointAtTick(boneAnimationQueue.positionXQueue(), positionKeyFrames.xKeyframes(), positionKeyFrames.xEndTimes(), adjustedTick, false, Axis.X);
+					addPointAtTick(boneAnimationQueue.positionYQueue(), positionKeyFrames.yKeyframes(), positionKeyFrames.yEndTimes(), adjustedTick, false, Axis.Y);
+					addPointAtTick(boneAnimationQueue.positionZQueue(), positionKeyFrames.zKeyframes(), positionKeyFrames.zEndTimes(), adjustedTick, false, Axis.Z);
+				}
 			}
 
 			if (!scaleKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addScales(
-						getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), adjustedTick, false, Axis.Z));
+				if (useSamples && scaleKeyFrames.samples() != null) {
+					scaleKeyFrames.samples().addPoints(boneAnimationQueue.scaleXQueue(), boneAnimationQueue.scaleYQueue(), boneAnimationQueue.scaleZQueue(), adjustedTick);
+				}
+				else {
+					addPointAtTick(boneAnimationQueue.scaleXQueue(), scaleKeyFrames.xKeyframes(), scaleKeyFrames.xEndTimes(), adjustedTick, false, Axis.X);
+					addPointAtTick(boneAnimationQueue.scaleYQueue(), scaleKeyFrames.yKeyframes(), scaleKeyFrames.yEndTimes(), adjustedTick, false, Axis.Y);
+					addPointAtTick(boneAnimationQueue.scaleZQueue(), scaleKeyFrames.zKeyframes(), scaleKeyFrames.zEndTimes(), adjustedTick, false, Axis.Z);
+				}
 			}
 		}
 
@@ -643,7 +705,10 @@ public class AnimationController<T extends GeoAnimatable> {
 					break;
 				}
 
-				this.soundKeyframeHandler.handle(new SoundKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData, animationState));
+				final SoundKeyframeHandler<T> handler = this.soundKeyframeHandler;
+				final SoundKeyframeEvent<T> event = new SoundKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData, animationState);
+
+				AnimationPrePass.runOnRenderThread(() -> handler.handle(event));
 			}
 		}
 
@@ -655,7 +720,10 @@ public class AnimationController<T extends GeoAnimatable> {
 					break;
 				}
 
-				this.particleKeyframeHandler.handle(new ParticleKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData, animationState));
+				final ParticleKeyframeHandler<T> handler = this.particleKeyframeHandler;
+				final ParticleKeyframeEvent<T> event = new ParticleKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData, animationState);
+
+				AnimationPrePass.runOnRenderThread(() -> handler.handle(event));
 			}
 		}
 
@@ -667,7 +735,10 @@ public class AnimationController<T extends GeoAnimatable> {
 					break;
 				}
 
-				this.customKeyframeHandler.handle(new CustomInstructionKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData, animationState));
+				final CustomKeyframeHandler<T> handler = this.customKeyframeHandler;
+				final CustomInstructionKeyframeEvent<T> event = new CustomInstructionKeyframeEvent<>(this.animatable, adjustedTick, this, keyframeData, animationState);
+
+				AnimationPrePass.runOnRenderThread(() -> handler.handle(event));
 			}
 		}
 
@@ -676,36 +747,104 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Prepare the {@link BoneAnimationQueue} map for the current render frame
+	 * Prepare the {@link BoneAnimationQueue BoneAnimationQueues} for the given model
+	 * <p>
+	 * Queues are only rebuilt when the model changes, reusing any existing queues for bones that are still present.
+	 * Otherwise, queues are cleared as they are used via {@link #activateQueue(int)}
 	 *
-	 * @param modelRendererList The bone list from the {@link AnimationProcessor}
+	 * @param model The model currently being animated
 	 */
-	private void createInitialQueues(Collection<GeoBone> modelRendererList) {
+	private void createInitialQueues(BakedGeoModel model) {
+		if (model == this.queueModel && !this.boneAnimationQueues.isEmpty())
+			return;
+
+		List<GeoBone> bones = model.bones();
+		BoneAnimationQueue[] queues = new BoneAnimationQueue[bones.size()];
+
+		for (int i = 0; i < queues.length; i++) {
+			GeoBone bone = bones.get(i);
+			BoneAnimationQueue queue = this.boneAnimationQueues.get(bone.getName());
+
+			queues[i] = queue == null || queue.bone() != bone ? new BoneAnimationQueue(bone) : queue;
+		}
+
 		this.boneAnimationQueues.clear();
 
-		for (GeoBone modelRenderer : modelRendererList) {
-			this.boneAnimationQueues.put(modelRenderer.getName(), new BoneAnimationQueue(modelRenderer));
+		for (BoneAnimationQueue queue : queues) {
+			this.boneAnimationQueues.put(queue.bone().getName(), queue);
+		}
+
+		this.boneAnimationQueueArray = queues;
+		this.transitionSnapshots = new BoneSnapshot[queues.length];
+		this.queueModel = model;
+
+		for (int i = 0; i < queues.length; i++) {
+			this.transitionSnapshots[i] = this.boneSnapshots.get(bones.get(i).getName());
 		}
 	}
 
+	/**
+	 * Get the {@link BoneAnimationQueue} for the given bone index, clearing it and marking it as active for this frame
+	 */
+	private BoneAnimationQueue activateQueue(int boneIndex) {
+		BoneAnimationQueue queue = this.boneAnimationQueueArray[boneIndex];
+
+		queue.clear();
+		this.activeBoneAnimationQueues.add(queue);
+
+		return queue;
+	}
+
+	/**
+	 * Get the {@link GeoBone#getIndex() bone index} for each of the given animation's {@link BoneAnimation BoneAnimations} in the given model
+	 * <p>
+	 * The result is cached until either the animation or the model changes
+	 *
+	 * @return An array of bone indices matching the animation's {@link Animation#boneAnimations()}, with -1 for any bones not present in the model
+	 */
+	private int[] getAnimationBoneIndices(Animation animation, BakedGeoModel model) {
+		if (animation != this.mappedAnimation || model != this.mappedModel) {
+			BoneAnimation[] boneAnimations = animation.boneAnimations();
+			int[] indices = new int[boneAnimations.length];
+
+			for (int i = 0; i < boneAnimations.length; i++) {
+				GeoBone bone = model.boneLookup().get(boneAnimations[i].boneName());
+				indices[i] = bone == null ? -1 : bone.getIndex();
+			}
+
+			this.animationBoneIndices = indices;
+			this.mappedAnimation = animation;
+			this.mappedModel = model;
+		}
+
+		return this.animationBoneIndices;
+	}
+
 	/**
 	 * Cache the relevant {@link BoneSnapshot BoneSnapshots} for the current {@link AnimationProcessor.QueuedAnimation}
 	 * for animation lerping
 	 *
 	 * @param animation The {@code QueuedAnimation} to filter {@code BoneSnapshots} for
-	 * @param snapshots The master snapshot collection to pull filter from
+	 * @param model The model currently being animated
+	 * @param snapshots The master snapshots to pull from, indexed by {@link GeoBone#getIndex() bone index}
 	 */
-	private void saveSnapshotsForAnimation(AnimationProcessor.QueuedAnimation animation, Map<String, BoneSnapshot> snapshots) {
-		for (BoneSnapshot snapshot : snapshots.values()) {
-			if (animation.animation().boneAnimations() != null) {
-				for (BoneAnimation boneAnimation : animation.animation().boneAnimations()) {
-					if (boneAnimation.boneName().equals(snapshot.getBone().getName())) {
-						this.boneSnapshots.put(boneAnimation.boneName(), BoneSnapshot.copy(snapshot));
+	private void saveSnapshotsForAnimation(AnimationProcessor.QueuedAnimation animation, BakedGeoModel model, BoneSnapshot[] snapshots) {
+		if (animation.animation().boneAnimations() == null)
+			return;
 
-						break;
-					}
-				}
-			}
+		BoneAnimation[] boneAnimations = animation.animation().boneAnimations();
+		int[] boneIndices = getAnimationBoneIndices(animation.animation(), model);
+
+		for (int i = 0; i < boneAnimations.length; i++) {
+			int boneIndex = boneIndices[i];
+
+			if (boneIndex == -1 || snapshots[boneIndex] == null)
+				continue;
+
+			BoneSnapshot snapshot = BoneSnapshot.copy(snapshots[boneIndex]);
+
+			this.transitionSnapshots[boneIndex] = snapshot;
+			this.boneSnapshots.put(boneAnimations[i].boneName(), snapshot);
 		}
 	}
 
@@ -730,53 +869,98 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Convert a {@link KeyframeLocation} to an {@link AnimationPoint}
+	 * Find the {@link Keyframe} relevant to the given tick, and add its animation point to the given queue
+	 *
+	 * @param queue The {@link AnimationPointQueue} to add the point to
+	 * @param frames The list of {@code KeyFrames} to filter through
+	 * @param endTimes The cumulative end times of the {@code KeyFrames}, or null if they need to be computed
+	 * @param tick The current tick time
+	 * @param isRotation Whether the keyframes are for rotation values
+	 * @param axis The axis the keyframes are for
 	 */
-	private AnimationPoint getAnimationPointAtTick(List<Keyframe<MathValue>> frames, double tick, boolean isRotation,
-												   Axis axis) {
-		KeyframeLocation<Keyframe<MathValue>> location = getCurrentKeyFrameLocation(frames, tick);
-		Keyframe<MathValue> currentFrame = location.keyframe();
-		double startValue = currentFrame.startValue().get();
-		double endValue = currentFrame.endValue().get();
+	private void addPointAtTick(AnimationPointQueue queue, List<Keyframe<MathValue>> frames, @Nullable double[] endTimes, double tick, boolean isRotation, Axis axis) {
+		if (endTimes == null) {
+			addPointAtTickLinear(queue, frames, tick, isRotation, axis);
 
-		if (isRotation) {
-			if (!(currentFrame.startValue() instanceof Constant)) {
-				startValue = Math.toRadians(startValue);
+			return;
+		}
 
-				if (axis == Axis.X || axis == Axis.Y)
-					startValue *= -1;
-			}
+		int index = KeyframeStack.findKeyframeIndex(endTimes, tick, queue.getKeyframeCursor());
 
-			if (!(currentFrame.endValue() instanceof Constant)) {
-				endValue = Math.toRadians(endValue);
+		if (index == -1) {
+			Keyframe<MathValue> lastFrame = frames.get(frames.size() - 1);
 
-				if (axis == Axis.X || axis == Axis.Y)
-					endValue *= -1;
-			}
+			queue.add(lastFrame, tick, lastFrame.length(), getKeyframeValue(lastFrame.startValue(), isRotation, axis), getKeyframeValue(lastFrame.endValue(), isRotation, axis));
+
+			return;
 		}
 
-		return new AnimationPoint(currentFrame, location.startTick(), currentFrame.length(), startValue, endValue);
+		Keyframe<MathValue> frame = frames.get(index);
+
+		queue.setKeyframeCursor(index);
+		queue.add(frame, tick - (endTimes[index] - frame.length()), frame.length(),
+				getKeyframeValue(frame.startValue(), isRotation, axis), getKeyframeValue(frame.endValue(), isRotation, axis));
 	}
 
 	/**
-	 * Returns the {@link Keyframe} relevant to the current tick time
-	 *
-	 * @param frames The list of {@code KeyFrames} to filter through
-	 * @param ageInTicks The current tick time
-	 * @return A new {@code KeyFrameLocation} containing the current {@code KeyFrame} and the tick time used to find it
+	 * Find the {@link Keyframe} relevant to the given tick by walking the keyframes in order, and add its animation point to the given queue
+	 * <p>
+	 * Only used for keyframes that aren't in chronological order, and therefore can't be searched
 	 */
-	private KeyframeLocation<Keyframe<MathValue>> getCurrentKeyFrameLocation(List<Keyframe<MathValue>> frames,
-																			 double ageInTicks) {
+	private void addPointAtTickLinear(AnimationPointQueue queue, List<Keyframe<MathValue>> frames, double tick, boolean isRotation, Axis axis) {
 		double totalFrameTime = 0;
 
-		for (Keyframe<MathValue> frame : frames) {
+		for (int i = 0; i < frames.size(); i++) {
+			Keyframe<MathValue> frame = frames.get(i);
 			totalFrameTime += frame.length();
 
-			if (totalFrameTime > ageInTicks)
-				return new KeyframeLocation<>(frame, (ageInTicks - (totalFrameTime - frame.length())));
+			if (totalFrameTime > tick) {
+				queue.add(frame, tick - (totalFrameTime - frame.length()), frame.length(),
+						getKeyframeValue(frame.startValue(), isRotation, axis), getKeyframeValue(frame.endValue(), isRotation, axis));
+
+				return;
+			}
+		}
+
+		Keyframe<MathValue> lastFrame = frames.get(frames.size() - 1);
+
+		queue.add(lastFrame, tick, lastFrame.length(), getKeyframeValue(lastFrame.startValue(), isRotation, axis), getKeyframeValue(lastFrame.endValue(), isRotation, axis));
+	}
+
+	/**
+	 * Get the value that a transition into the given keyframes should end at, which is the start value of the first active keyframe
+	 *
+	 * @param frames The list of {@code KeyFrames} being transitioned into
+	 * @param isRotation Whether the keyframes are for rotation values
+	 * @param axis The axis the keyframes are for
+	 */
+	private double getTransitionEndValue(List<Keyframe<MathValue>> frames, boolean isRotation, Axis axis) {
+		for (int i = 0; i < frames.size(); i++) {
+			Keyframe<MathValue> frame = frames.get(i);
+
+			if (frame.length() > 0)
+				return getKeyframeValue(frame.startValue(), isRotation, axis);
+		}
+
+		return getKeyframeValue(frames.get(frames.size() - 1).startValue(), isRotation, axis);
+	}
+
+	/**
+	 * Compute the value of a keyframe {@link MathValue}, converting non-constant rotation values to radians
+	 * <p>
+	 * Constant rotation values are already converted at deserialization time
+	 */
+	private static double getKeyframeValue(MathValue value, boolean isRotation, Axis axis) {
+		double result = value.get();
+
+		if (isRotation && !(value instanceof Constant)) {
+			result = Math.toRadians(result);
+
+			if (axis == Axis.X || axis == Axis.Y)
+				result *= -1;
 		}
 
-		return new KeyframeLocation<>(frames.get(frames.size() - 1), ageInTicks);
+		return result;
 	}
 
 	/**
@@ -0,0 +1,244 @@
+package software.bernie.geckolib.animation;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.client.DeltaTracker;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.cache.GeckoLibCache;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.constant.DataTickets;
+import software.bernie.geckolib.loading.math.MolangContext;
+import software.bernie.geckolib.loading.math.MolangQueries;
+import software.bernie.geckolib.model.GeoModel;
+import software.bernie.geckolib.renderer.BoneLod;
+import software.bernie.geckolib.renderer.GeoEntityRenderer;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Optional render-frame pre-pass that computes the animations of all visible GeckoLib entities in parallel, before any of them are rendered
+ * <p>
+ * Each entity is animated as its own task on a {@link ForkJoinPool#commonPool() ForkJoinPool} worker. All mutable animation state is held per instance
+ * in its {@link AnimatableManager}, including its controllers and its {@link AnimatableManager#getPose() pose buffer}, while {@link BakedGeoModel BakedGeoModels}
+ * and their {@link software.bernie.geckolib.cache.object.GeoBone bones} are not modified after baking, so no two tasks ever touch the same mutable state.
+ * When the entity is then rendered, {@link GeoModel#handleAnimations} sees that its pose has already been prepared for the frame, and skips re-computing the animations.
+ * <p>
+ * <b><u>This is disabled by default</u></b>. When enabled, the following run off the render thread:
+ * <ul>
+ *     <li>{@link AnimationController.AnimationStateHandler AnimationStateHandlers}</li>
+ *     <li>{@link GeoModel#setCustomAnimations}, {@link GeoModel#applyMolangQueries} and {@link GeoModel#addAdditionalStateData}</li>
+ *     <li>Molang query evaluation</li>
+ * </ul>
+ * These must not modify shared state or call into non-thread-safe game systems. Keyframe event handlers (sound, particle, and custom instruction)
+ * are deferred and run on the render thread once the pre-pass is complete.<br>
+ * In particular, the global Molang setters ({@link software.bernie.geckolib.loading.math.MathParser#setVariable MathParser.setVariable}
+ * and {@link software.bernie.geckolib.loading.math.value.Variable#set Variable.set}) are not safe to use during the pre-pass, as they are shared by all animatables.
+ * Per-animatable values should instead be set for the current thread's {@link MolangContext} only, via {@link software.bernie.geckolib.loading.math.value.Variable#setForContext Variable.setForContext}.
+ * The same applies to Molang assignments in animation jsons (E.G. {@code variable.x = ...}), which set the global value unless the variable has been set for the context.<br>
+ * Because of this, models have to opt in via {@link GeoModel#canAnimateOffThread} once they meet these requirements; all other models are animated on the render thread as usual
+ */
+public final class AnimationPrePass {
+	/**
+	 * Whether the pre-pass is enabled
+	 */
+	public static boolean ENABLED = false;
+	/**
+	 * The minimum number of GeckoLib entities in a frame for the pre-pass to be used; below this the overhead of forking outweighs the gains
+	 */
+	public static int MIN_ANIMATABLES = 16;
+
+	private static final ThreadLocal<List<Runnable>> DEFERRED_TASKS = new ThreadLocal<>();
+	private static long frameId = 0;
+
+	/**
+	 * @return The id of the current render frame, used to validate that a {@link software.bernie.geckolib.animation.state.BonePoseBuffer prepared pose} is current
+	 */
+	public static long getFrameId() {
+		return frameId;
+	}
+
+	/**
+	 * @return Whether the current thread is animating as part of the pre-pass
+	 */
+	public static boolean isPreparing() {
+		return DEFERRED_TASKS.get() != null;
+	}
+
+	/**
+	 * Run the given task on the render thread
+	 * <p>
+	 * If called from within the pre-pass, the task is deferred until the pre-pass has completed, otherwise it is run immediately
+	 */
+	public static void runOnRenderThread(Runnable task) {
+		List<Runnable> deferredTasks = DEFERRED_TASKS.get();
+
+		if (deferredTasks != null) {
+			deferredTasks.add(task);
+		}
+		else {
+			task.run();
+		}
+	}
+
+	/**
+	 * Advance to a new render frame
+	 * <p>
+	 * Called automatically at the start of each level render, regardless of whether the pre-pass is enabled, as {@link AnimationThrottle} also relies on the frame id
+	 */
+	@ApiStatus.Internal
+	public static void startFrame() {
+		frameId++;
+	}
+
+	/**
+	 * Compute the animations for the given entities ahead of rendering
+	 * <p>
+	 * Called automatically at the start of entity rendering each frame
+	 *
+	 * @param entities The entities that will be rendered this frame
+	 * @param deltaTracker The DeltaTracker for the current frame
+	 */
+	@ApiStatus.Internal
+	public static void prepareFrame(List<Entity> entities, DeltaTracker deltaTracker) {
+		if (!ENABLED || entities.size() < MIN_ANIMATABLES)
+			return;
+
+		EntityRenderDispatcher renderDispatcher = Minecraft.getInstance().getEntityRenderDispatcher();
+		ClientLevel level = Minecraft.getInstance().level;
+		List<PreparedEntity> tasks = new ObjectArrayList<>();
+		long frame = frameId;
+
+		for (Entity entity : entities) {
+			if (!(entity instanceof GeoAnimatable) || !(renderDispatcher.getRenderer(entity) instanceof GeoEntityRenderer<?> renderer) || !canAnimateOffThread(renderer, entity))
+				continue;
+
+			float partialTick = deltaTracker.getGameTimeDeltaPartialTick(level == null || !level.tickRateManager().isEntityFrozen(entity));
+			PreparedEntity preparedEntity = resolveEntity(renderer, entity, partialTick, frame);
+
+			if (preparedEntity != null)
+				tasks.add(preparedEntity);
+		}
+
+		if (tasks.size() < MIN_ANIMATABLES)
+			return;
+
+		ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+			@Override
+			protected void compute() {
+				ForkJoinTask.invokeAll(tasks);
+			}
+		});
+
+		for (PreparedEntity preparedEntity : tasks) {
+			for (Runnable task : preparedEntity.deferredTasks) {
+				task.run();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Entity & GeoAnimatable> boolean canAnimateOffThread(GeoEntityRenderer<?> renderer, Entity entity) {
+		return ((GeoEntityRenderer<T>)renderer).getGeoModel().canAnimateOffThread((T)entity);
+	}
+
+	/**
+	 * Resolve the {@link BoneLod} and {@link BakedGeoModel} the given entity will be animated with this frame
+	 *
+	 * @return The resolved entity, or null if its model couldn't be resolved, in which case it is left to be animated on the render thread
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static <T extends Entity & GeoAnimatable> PreparedEntity resolveEntity(GeoEntityRenderer<?> entityRenderer, Entity entity, float partialTick, long frame) {
+		GeoEntityRenderer<T> renderer = (GeoEntityRenderer<T>)entityRenderer;
+		T animatable = (T)entity;
+
+		try {
+			BoneLod lod = renderer.getBoneLod(animatable, partialTick);
+			ResourceLocation modelResource = renderer.getGeoModel().getModelResource(animatable, renderer);
+
+			if (lod != null)
+				modelResource = lod.selectModel(modelResource);
+
+			BakedGeoModel bakedModel = GeckoLibCache.getBakedModels().get(modelResource);
+
+			return bakedModel == null ? null : new PreparedEntity(renderer, entity, partialTick, lod, bakedModel, frame);
+		}
+		catch (Exception ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * An entity to be animated in the pre-pass, along with its resolved level-of-detail and model
+	 * <p>
+	 * Each entity is animated as its own task, collecting any keyframe event handlers to be run on the render thread once the pre-pass is complete
+	 */
+	private static class PreparedEntity extends RecursiveAction {
+		private final GeoEntityRenderer<?> renderer;
+		private final Entity entity;
+		private final float partialTick;
+		@Nullable
+		private final BoneLod lod;
+		private final BakedGeoModel bakedModel;
+		private final long frame;
+		private final List<Runnable> deferredTasks = new ObjectArrayList<>();
+
+		private PreparedEntity(GeoEntityRenderer<?> renderer, Entity entity, float partialTick, @Nullable BoneLod lod, BakedGeoModel bakedModel, long frame) {
+			this.renderer = renderer;
+			this.entity = entity;
+			this.partialTick = partialTick;
+			this.lod = lod;
+			this.bakedModel = bakedModel;
+			this.frame = frame;
+		}
+
+		@Override
+		protected void compute() {
+			DEFERRED_TASKS.set(this.deferredTasks);
+
+			try {
+				prepareEntity();
+			}
+			finally {
+				DEFERRED_TASKS.remove();
+				MolangQueries.clearActor();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T extends Entity & GeoAnimatable> void prepareEntity() {
+			GeoEntityRenderer<T> renderer = (GeoEntityRenderer<T>)this.renderer;
+			T animatable = (T)this.entity;
+			GeoModel<T> model = renderer.getGeoModel();
+			long instanceId = renderer.getInstanceId(animatable);
+			AnimatableManager<T> manager = null;
+
+			try {
+				manager = animatable.getAnimatableInstanceCache().getManagerForId(instanceId);
+				AnimationState<T> animationState = renderer.createFrameAnimationState(animatable, instanceId, this.partialTick);
+
+				if (this.lod != null)
+					animationState.setData(DataTickets.BONE_LOD, this.lod);
+
+				model.handleAnimations(animatable, instanceId, animationState, this.bakedModel, this.partialTick);
+				manager.getPose().markPrepared(this.frame);
+			}
+			catch (Exception ex) {
+				GeckoLibConstants.LOGGER.error("Error preparing animations for " + this.entity.getType() + ", falling back to render-thread animation", ex);
+
+				if (manager != null)
+					manager.getPose().invalidate();
+			}
+		}
+	}
+}
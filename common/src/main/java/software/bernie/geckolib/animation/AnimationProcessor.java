@@ -3,24 +3,30 @@ package software.bernie.geckolib.animation;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.util.Mth;
 import org.apache.logging.log4j.Level;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.GeckoLibConstants;
-import software.bernie.geckolib.animation.keyframe.AnimationPoint;
 import software.bernie.geckolib.animation.keyframe.BoneAnimationQueue;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.loading.math.MolangQueries;
 import software.bernie.geckolib.model.GeoModel;
+import software.bernie.geckolib.renderer.BoneLod;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
 public class AnimationProcessor<T extends GeoAnimatable> {
-	private final Map<String, GeoBone> bones = new Object2ObjectOpenHashMap<>();
 	private final GeoModel<T> model;
+	private Map<String, GeoBone> bones = Map.of();
+	private BakedGeoModel activeModel = null;
+	private boolean hasCustomBones = false;
 
 	public boolean reloadAnimations = false;
 
@@ -66,6 +72,9 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 
 	/**
 	 * Tick and apply transformations to the model based on the current state of the {@link AnimationController}
+	 * <p>
+	 * The transformations are written into the {@link AnimatableManager#getPose() pose} of the animatable, for the model it was last prepared for.
+	 * If it hasn't been prepared for a model yet, it is prepared for the {@link #getActiveModel() active model}
 	 *
 	 * @param animatable            The animatable object relevant to the animation being played
 	 * @param model                 The model currently being processed
@@ -75,7 +84,15 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 * @param crashWhenCantFindBone Whether to crash if unable to find a required bone, or to continue with the remaining bones
 	 */
 	public void tickAnimation(T animatable, GeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> state, boolean crashWhenCantFindBone) {
-		Map<String, BoneSnapshot> boneSnapshots = updateBoneSnapshots(animatableManager.getBoneSnapshotCollection());
+		BonePoseBuffer pose = animatableManager.getPose();
+
+		if (pose.getModel() == null)
+			pose.prepare(this.activeModel);
+
+		BakedGeoModel bakedModel = pose.getModel();
+		List<GeoBone> bones = bakedModel.bones();
+		BoneSnapshot[] boneSnapshots = animatableManager.getBoneSnapshots(bakedModel);
+		boolean[] heldBones = findHeldBones(state.getData(DataTickets.BONE_LOD), bakedModel, pose);
 
 		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
 			if (this.reloadAnimations) {
@@ -84,51 +101,48 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 			}
 
 			controller.isJustStarting = animatableManager.isFirstTick();
+			controller.heldBones = heldBones;
 
 			state.withController(controller);
-			controller.process(model, state, this.bones, boneSnapshots, animTime, crashWhenCantFindBone);
+			controller.process(model, state, bakedModel, boneSnapshots, animTime, crashWhenCantFindBone);
 
-			for (BoneAnimationQueue boneAnimation : controller.getBoneAnimationQueues().values()) {
+			EasingType easingType = controller.overrideEasingTypeFunction.apply(animatable);
+			List<BoneAnimationQueue> boneAnimationQueues = controller.getActiveBoneAnimationQueues();
+
+			for (int i = 0; i < boneAnimationQueues.size(); i++) {
+				BoneAnimationQueue boneAnimation = boneAnimationQueues.get(i);
 				GeoBone bone = boneAnimation.bone();
-				BoneSnapshot snapshot = boneSnapshots.get(bone.getName());
+
+				int index = bone.getIndex();
+
+				if (heldBones != null && heldBones[index])
+					continue;
+
+				BoneSnapshot snapshot = boneSnapshots[index];
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
 
-				AnimationPoint rotXPoint = boneAnimation.rotationXQueue().poll();
-				AnimationPoint rotYPoint = boneAnimation.rotationYQueue().poll();
-				AnimationPoint rotZPoint = boneAnimation.rotationZQueue().poll();
-				AnimationPoint posXPoint = boneAnimation.positionXQueue().poll();
-				AnimationPoint posYPoint = boneAnimation.positionYQueue().poll();
-				AnimationPoint posZPoint = boneAnimation.positionZQueue().poll();
-				AnimationPoint scaleXPoint = boneAnimation.scaleXQueue().poll();
-				AnimationPoint scaleYPoint = boneAnimation.scaleYQueue().poll();
-				AnimationPoint scaleZPoint = boneAnimation.scaleZQueue().poll();
-				EasingType easingType = controller.overrideEasingTypeFunction.apply(animatable);
-
-				if (rotXPoint != null && rotYPoint != null && rotZPoint != null) {
-					bone.setRotX((float)EasingType.lerpWithOverride(rotXPoint, easingType) + initialSnapshot.getRotX());
-					bone.setRotY((float)EasingType.lerpWithOverride(rotYPoint, easingType) + initialSnapshot.getRotY());
-					bone.setRotZ((float)EasingType.lerpWithOverride(rotZPoint, easingType) + initialSnapshot.getRotZ());
-					snapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+				if (!boneAnimation.rotationXQueue().isEmpty() && !boneAnimation.rotationYQueue().isEmpty() && !boneAnimation.rotationZQueue().isEmpty()) {
+					pose.setRotX(index, (float)boneAnimation.rotationXQueue().pollValue(easingType) + initialSnapshot.getRotX());
+					pose.setRotY(index, (float)boneAnimation.rotationYQueue().pollValue(easingType) + initialSnapshot.getRotY());
+					pose.setRotZ(index, (float)boneAnimation.rotationZQueue().pollValue(easingType) + initialSnapshot.getRotZ());
+					snapshot.updateRotation(pose.getRotX(index), pose.getRotY(index), pose.getRotZ(index));
 					snapshot.startRotAnim();
-					bone.markRotationAsChanged();
 				}
 
-				if (posXPoint != null && posYPoint != null && posZPoint != null) {
-					bone.setPosX((float)EasingType.lerpWithOverride(posXPoint, easingType));
-					bone.setPosY((float)EasingType.lerpWithOverride(posYPoint, easingType));
-					bone.setPosZ((float)EasingType.lerpWithOverride(posZPoint, easingType));
-					snapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+				if (!boneAnimation.positionXQueue().isEmpty() && !boneAnimation.positionYQueue().isEmpty() && !boneAnimation.positionZQueue().isEmpty()) {
+					pose.setPosX(index, (float)boneAnimation.positionXQueue().pollValue(easingType));
+					pose.setPosY(index, (float)boneAnimation.positionYQueue().pollValue(easingType));
+					pose.setPosZ(index, (float)boneAnimation.positionZQueue().pollValue(easingType));
+					snapshot.updateOffset(pose.getPosX(index), pose.getPosY(index), pose.getPosZ(index));
 					snapshot.startPosAnim();
-					bone.markPositionAsChanged();
 				}
 
-				if (scaleXPoint != null && scaleYPoint != null && scaleZPoint != null) {
-					bone.setScaleX((float)EasingType.lerpWithOverride(scaleXPoint, easingType));
-					bone.setScaleY((float)EasingType.lerpWithOverride(scaleYPoint, easingType));
-					bone.setScaleZ((float)EasingType.lerpWithOverride(scaleZPoint, easingType));
-					snapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+				if (!boneAnimation.scaleXQueue().isEmpty() && !boneAnimation.scaleYQueue().isEmpty() && !boneAnimation.scaleZQueue().isEmpty()) {
+					pose.setScaleX(index, (float)boneAnimation.scaleXQueue().pollValue(easingType));
+					pose.setScaleY(index, (float)boneAnimation.scaleYQueue().pollValue(easingType));
+					pose.setScaleZ(index, (float)boneAnimation.scaleZQueue().pollValue(easingType));
+					snapshot.updateScale(pose.getScaleX(index), pose.getScaleY(index), pose.getScaleZ(index));
 					snapshot.startScaleAnim();
-					bone.markScaleAsChanged();
 				}
 			}
 		}
@@ -136,88 +150,91 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 		this.reloadAnimations = false;
 		double resetTickLength = animatable.getBoneResetTime();
 
-		for (GeoBone bone : getRegisteredBones()) {
-			if (!bone.hasRotationChanged()) {
-				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
+		for (int i = 0; i < bones.size(); i++) {
+			// Held bones keep their last pose
+			if (heldBones != null && heldBones[i])
+				continue;
+
+			GeoBone bone = bones.get(i);
+			BoneSnapshot saveSnapshot = boneSnapshots[i];
+			BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
 
+			if (!pose.hasRotationChanged(i)) {
 				if (saveSnapshot.isRotAnimInProgress())
 					saveSnapshot.stopRotAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetRotationTick()) / resetTickLength, 1);
 
-				bone.setRotX((float)Mth.lerp(percentageReset, saveSnapshot.getRotX(), initialSnapshot.getRotX()));
-				bone.setRotY((float)Mth.lerp(percentageReset, saveSnapshot.getRotY(), initialSnapshot.getRotY()));
-				bone.setRotZ((float)Mth.lerp(percentageReset, saveSnapshot.getRotZ(), initialSnapshot.getRotZ()));
+				pose.setRotX(i, (float)Mth.lerp(percentageReset, saveSnapshot.getRotX(), initialSnapshot.getRotX()));
+				pose.setRotY(i, (float)Mth.lerp(percentageReset, saveSnapshot.getRotY(), initialSnapshot.getRotY()));
+				pose.setRotZ(i, (float)Mth.lerp(percentageReset, saveSnapshot.getRotZ(), initialSnapshot.getRotZ()));
 
 				if (percentageReset >= 1)
-					saveSnapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+					saveSnapshot.updateRotation(pose.getRotX(i), pose.getRotY(i), pose.getRotZ(i));
 			}
 
-			if (!bone.hasPositionChanged()) {
-				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
-
+			if (!pose.hasPositionChanged(i)) {
 				if (saveSnapshot.isPosAnimInProgress())
 					saveSnapshot.stopPosAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetPositionTick()) / resetTickLength, 1);
 
-				bone.setPosX((float)Mth.lerp(percentageReset, saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX()));
-				bone.setPosY((float)Mth.lerp(percentageReset, saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY()));
-				bone.setPosZ((float)Mth.lerp(percentageReset, saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ()));
+				pose.setPosX(i, (float)Mth.lerp(percentageReset, saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX()));
+				pose.setPosY(i, (float)Mth.lerp(percentageReset, saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY()));
+				pose.setPosZ(i, (float)Mth.lerp(percentageReset, saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ()));
 
 				if (percentageReset >= 1)
-					saveSnapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+					saveSnapshot.updateOffset(pose.getPosX(i), pose.getPosY(i), pose.getPosZ(i));
 			}
 
-			if (!bone.hasScaleChanged()) {
-				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
-				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
-
+			if (!pose.hasScaleChanged(i)) {
 				if (saveSnapshot.isScaleAnimInProgress())
 					saveSnapshot.stopScaleAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetScaleTick()) / resetTickLength, 1);
 
-				bone.setScaleX((float)Mth.lerp(percentageReset, saveSnapshot.getScaleX(), initialSnapshot.getScaleX()));
-				bone.setScaleY((float)Mth.lerp(percentageReset, saveSnapshot.getScaleY(), initialSnapshot.getScaleY()));
-				bone.setScaleZ((float)Mth.lerp(percentageReset, saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ()));
+				pose.setScaleX(i, (float)Mth.lerp(percentageReset, saveSnapshot.getScaleX(), initialSnapshot.getScaleX()));
+				pose.setScaleY(i, (float)Mth.lerp(percentageReset, saveSnapshot.getScaleY(), initialSnapshot.getScaleY()));
+				pose.setScaleZ(i, (float)Mth.lerp(percentageReset, saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ()));
 
 				if (percentageReset >= 1)
-					saveSnapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+					saveSnapshot.updateScale(pose.getScaleX(i), pose.getScaleY(i), pose.getScaleZ(i));
 			}
 		}
 
-		resetBoneTransformationMarkers();
+		pose.resetStateChanges();
 		animatableManager.finishFirstTick();
 	}
 
 	/**
-	 * Reset the transformation markers applied to each {@link GeoBone} ready for the next render frame
-	 */
-	private void resetBoneTransformationMarkers() {
-		getRegisteredBones().forEach(GeoBone::resetStateChanges);
-	}
-
-	/**
-	 * Create new bone {@link BoneSnapshot} based on the bone's initial snapshot for the currently registered {@link GeoBone GeoBones},
-	 * filtered by the bones already present in the master snapshots map
+	 * Determine which bones are too small on-screen to be worth animating this frame, and should instead hold their last pose
 	 *
-	 * @param snapshots The master bone snapshots map from the related {@link AnimatableManager}
-	 * @return The input snapshots map, for easy assignment
+	 * @return An array of flags indexed by {@link GeoBone#getIndex() bone index}, or null if no bones are being held
 	 */
-	private Map<String, BoneSnapshot> updateBoneSnapshots(Map<String, BoneSnapshot> snapshots) {
-		for (GeoBone bone : getRegisteredBones()) {
-			if (!snapshots.containsKey(bone.getName()))
-				snapshots.put(bone.getName(), BoneSnapshot.copy(bone.getInitialSnapshot()));
+	@Nullable
+	private static boolean[] findHeldBones(@Nullable BoneLod lod, BakedGeoModel bakedModel, BonePoseBuffer pose) {
+		if (lod == null || !pose.isAnimated())
+			return null;
+
+		List<GeoBone> bones = bakedModel.bones();
+		boolean[] heldBones = null;
+
+		for (int i = 0; i < bones.size(); i++) {
+			if (!lod.shouldAnimate(bones.get(i))) {
+				if (heldBones == null)
+					heldBones = new boolean[bones.size()];
+
+				heldBones[i] = true;
+			}
 		}
 
-		return snapshots;
+		return heldBones;
 	}
 
 	/**
 	 * Gets a bone by name
+	 * <p>
+	 * Bones only hold a model's geometry. To transform a bone for the animatable being animated, use its index in the {@link AnimationState#getPose() pose}
 	 *
 	 * @param boneName The bone name
 	 * @return the bone
@@ -232,9 +249,15 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 * This is normally handled automatically by Geckolib
 	 * <p>
 	 * Failure to properly register a bone will break things.
+	 * <p>
+	 * Note that only bones belonging to the {@link #getActiveModel() active model} are animated, as animation state is indexed by {@link GeoBone#getIndex() bone index}
 	 */
 	public void registerGeoBone(GeoBone bone) {
-		bone.saveInitialSnapshot();
+		if (!this.hasCustomBones) {
+			this.bones = new Object2ObjectOpenHashMap<>(this.bones);
+			this.hasCustomBones = true;
+		}
+
 		this.bones.put(bone.getName(), bone);
 
 		for (GeoBone child : bone.getChildBones()) {
@@ -243,17 +266,24 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Clear the {@link GeoBone GeoBones} currently registered to the processor,
-	 * then prepares the processor for a new model
+	 * Set the model the processor is currently animating
+	 * <p>
+	 * Bones are indexed when the model is baked, so this is just a swap to the model's existing bone lookup
 	 * <p>
 	 * Should be called whenever switching models to render/animate
 	 */
 	public void setActiveModel(BakedGeoModel model) {
-		this.bones.clear();
+		this.activeModel = model;
+		this.bones = model.boneLookup();
+		this.hasCustomBones = false;
+	}
 
-		for (GeoBone bone : model.topLevelBones()) {
-			registerGeoBone(bone);
-		}
+	/**
+	 * Get the model the processor is currently animating, or null if one hasn't been set yet
+	 */
+	@Nullable
+	public BakedGeoModel getActiveModel() {
+		return this.activeModel;
 	}
 
 	/**
@@ -265,8 +295,16 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 
 	/**
 	 * Apply transformations and settings prior to acting on any animation-related functionality
+	 * <p>
+	 * If none of the animatable's animations use Molang variables, the Molang actor isn't built and {@link GeoModel#applyMolangQueries} isn't called
 	 */
 	public void preAnimationSetup(AnimationState<T> animationState, double animTime) {
+		if (!this.model.usesMolangVariables(animationState.getAnimatable())) {
+			MolangQueries.clearActor();
+
+			return;
+		}
+
 		MolangQueries.updateActor(animationState, animTime);
 		this.model.applyMolangQueries(animationState, animTime);
 	}
@@ -1,7 +1,12 @@
 package software.bernie.geckolib.animation;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 
 import java.util.Map;
@@ -23,6 +28,8 @@ public class AnimationState<T extends GeoAnimatable> {
 
 	protected AnimationController<T> controller;
 	public double animationTick;
+	@Nullable
+	private BonePoseBuffer pose = null;
 
 	public AnimationState(T animatable, float limbSwing, float limbSwingAmount, float partialTick, boolean isMoving) {
 		this.animatable = animatable;
@@ -87,6 +94,38 @@ public class AnimationState<T extends GeoAnimatable> {
 		return this;
 	}
 
+	/**
+	 * Gets the {@link BonePoseBuffer pose} of the animatable being animated, or null if it isn't being animated yet
+	 * <p>
+	 * Bone transforms for this animatable (such as in {@link software.bernie.geckolib.model.GeoModel#setCustomAnimations GeoModel.setCustomAnimations})
+	 * should be set here, by {@link GeoBone#getIndex() bone index}
+	 */
+	@Nullable
+	public BonePoseBuffer getPose() {
+		return this.pose;
+	}
+
+	/**
+	 * Set the {@link BonePoseBuffer pose} of the animatable being animated
+	 */
+	@ApiStatus.Internal
+	public void setPose(BonePoseBuffer pose) {
+		this.pose = pose;
+	}
+
+	/**
+	 * Gets a bone by name from the model the animatable is being animated with
+	 *
+	 * @param name The name of the bone
+	 * @return The bone, or null if the model has no bone by that name or the animatable isn't being animated yet
+	 */
+	@Nullable
+	public GeoBone getBone(String name) {
+		BakedGeoModel model = this.pose == null ? null : this.pose.getModel();
+
+		return model == null ? null : model.boneLookup().get(name);
+	}
+
 	/**
 	 * Gets the optional additional data map for the state
 	 *
@@ -0,0 +1,125 @@
+package software.bernie.geckolib.animation;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.constant.DataTickets;
+import software.bernie.geckolib.model.GeoModel;
+import software.bernie.geckolib.renderer.GeoRenderer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduling policy that reduces how often distant animatables have their animations computed
+ * <p>
+ * Animatables further than {@link #HALF_RATE_DISTANCE} from the camera are animated every 2nd frame, then every 4th frame beyond
+ * {@link #QUARTER_RATE_DISTANCE}, and only once per game tick beyond {@link #TICK_RATE_DISTANCE}.<br>
+ * In between updates, {@link GeoModel#handleAnimations} interpolates between the last two computed poses stored in the
+ * {@link AnimatableManager} instead of re-processing the animation controllers. To allow this, throttled animatables are displayed
+ * one update behind their computed pose.
+ * <p>
+ * Additionally, once GeckoLib has spent {@link #FRAME_BUDGET_NANOS} computing animations in a frame, any further throttled animatables defer
+ * their update to a later frame, up to a maximum of {@link #MAX_DEFERRED_FRAMES} frames.
+ * <p>
+ * Throttling relies on the {@link DataTickets#CAMERA_DISTANCE camera distance} provided by the renderer via {@link GeoRenderer#getCameraDistance},
+ * so is only applied while the level is being rendered, and only for renderers that provide it. It does not depend on level-of-detail being enabled
+ * <p>
+ * <b><u>This is disabled by default</u></b>, as throttled animatables are displayed one update behind, and skip {@link GeoModel#setCustomAnimations}
+ * on deferred frames. Enable it via {@link #ENABLED}
+ */
+public final class AnimationThrottle {
+	/**
+	 * Whether animation throttling is enabled
+	 */
+	public static boolean ENABLED = false;
+	/**
+	 * The distance (in blocks) beyond which animatables are animated every 2nd frame
+	 */
+	public static double HALF_RATE_DISTANCE = 32;
+	/**
+	 * The distance (in blocks) beyond which animatables are animated every 4th frame
+	 */
+	public static double QUARTER_RATE_DISTANCE = 64;
+	/**
+	 * The distance (in blocks) beyond which animatables are animated once per game tick
+	 */
+	public static double TICK_RATE_DISTANCE = 96;
+	/**
+	 * The time (in nanoseconds) GeckoLib can spend computing animations in a frame before throttled animatables start deferring their updates.<br>
+	 * Set to 0 or less to disable the budget
+	 */
+	public static long FRAME_BUDGET_NANOS = 4_000_000;
+	/**
+	 * The maximum number of frames a throttled animatable can go without being updated
+	 */
+	public static int MAX_DEFERRED_FRAMES = 8;
+
+	private static final AtomicLong FRAME_TIME_SPENT = new AtomicLong();
+
+	/**
+	 * Reset the time budget for a new frame
+	 * <p>
+	 * Called automatically by GeckoLib when a new level render begins
+	 */
+	@ApiStatus.Internal
+	public static void startFrame() {
+		FRAME_TIME_SPENT.set(0);
+	}
+
+	/**
+	 * Record time spent computing animations this frame against the frame's budget
+	 * <p>
+	 * Only time spent on the render thread counts towards the budget. Updates made by {@link AnimationPrePass} workers run in parallel,
+	 * so adding their times together would use up the budget much faster than the frame's actual time
+	 *
+	 * @param nanos The time taken, in nanoseconds
+	 */
+	public static void recordUpdate(long nanos) {
+		if (!AnimationPrePass.isPreparing())
+			FRAME_TIME_SPENT.addAndGet(nanos);
+	}
+
+	/**
+	 * @return Whether this frame's animation time budget has been used up
+	 */
+	public static boolean isOverBudget() {
+		return FRAME_BUDGET_NANOS > 0 && FRAME_TIME_SPENT.get() >= FRAME_BUDGET_NANOS;
+	}
+
+	/**
+	 * Whether an animatable at the given distance from the camera is far enough away to have its updates throttled
+	 *
+	 * @param distance The distance (in blocks) between the camera and the animatable, or a negative value if unknown
+	 */
+	public static boolean isThrottled(double distance) {
+		return ENABLED && distance >= HALF_RATE_DISTANCE;
+	}
+
+	/**
+	 * Determine whether the given animatable should skip its animation update this frame, and interpolate its stored poses instead
+	 *
+	 * @param manager The AnimatableManager for the animatable instance
+	 * @param model The model being animated
+	 * @param distance The distance (in blocks) between the camera and the animatable, or a negative value if unknown
+	 * @param animTime The current animation time (in ticks) for the animatable
+	 * @param frame The current frame id
+	 * @return Whether the animation update should be skipped
+	 */
+	public static boolean shouldDefer(AnimatableManager<?> manager, @Nullable BakedGeoModel model, double distance, double animTime, long frame) {
+		if (!isThrottled(distance) || model == null || !manager.hasPoseHistory(model))
+			return false;
+
+		long framesSinceUpdate = frame - manager.getLastPoseFrame();
+
+		if (framesSinceUpdate >= MAX_DEFERRED_FRAMES)
+			return false;
+
+		if (isOverBudget())
+			return true;
+
+		if (distance >= TICK_RATE_DISTANCE)
+			return (long)animTime == (long)manager.getLastPoseTime();
+
+		return framesSinceUpdate < (distance >= QUARTER_RATE_DISTANCE ? 4 : 2);
+	}
+}
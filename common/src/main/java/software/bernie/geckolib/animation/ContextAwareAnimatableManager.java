@@ -2,7 +2,9 @@ package software.bernie.geckolib.animation;
 
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.animation.state.BoneSnapshot;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 
 import java.util.Map;
@@ -73,6 +75,46 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 		return getManagerForContext(getCurrentContext()).getBoneSnapshotCollection();
 	}
 
+	public BoneSnapshot[] getBoneSnapshots(BakedGeoModel model) {
+		return getManagerForContext(getCurrentContext()).getBoneSnapshots(model);
+	}
+
+	public BonePoseBuffer getPose() {
+		return getManagerForContext(getCurrentContext()).getPose();
+	}
+
+	public void capturePose(double animTime, long frame) {
+		getManagerForContext(getCurrentContext()).capturePose(animTime, frame);
+	}
+
+	public void clearPoseHistory() {
+		getManagerForContext(getCurrentContext()).clearPoseHistory();
+	}
+
+	public boolean hasPoseHistory(BakedGeoModel model) {
+		return getManagerForContext(getCurrentContext()).hasPoseHistory(model);
+	}
+
+	public double getLastPoseTime() {
+		return getManagerForContext(getCurrentContext()).getLastPoseTime();
+	}
+
+	public long getLastPoseFrame() {
+		return getManagerForContext(getCurrentContext()).getLastPoseFrame();
+	}
+
+	public float updatePoseBlend(double animTime) {
+		return getManagerForContext(getCurrentContext()).updatePoseBlend(animTime);
+	}
+
+	public void setPoseBlend(float blend) {
+		getManagerForContext(getCurrentContext()).setPoseBlend(blend);
+	}
+
+	public void applyPoseHistory() {
+		getManagerForContext(getCurrentContext()).applyPoseHistory();
+	}
+
 	public void clearSnapshotCache() {
 		getManagerForContext(getCurrentContext()).clearSnapshotCache();
 	}
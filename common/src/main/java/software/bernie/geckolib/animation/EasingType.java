@@ -4,6 +4,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 import it.unimi.dsi.fastutil.doubles.Double2DoubleFunction;
 import net.minecraft.util.Mth;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.keyframe.AnimationPoint;
 import software.bernie.geckolib.animation.keyframe.Keyframe;
 
@@ -81,7 +82,38 @@ public interface EasingType {
 		if (animationPoint.currentTick() >= animationPoint.transitionLength())
 			return (float)animationPoint.animationEndValue();
 
-		return Mth.lerp(buildTransformer(easingValue).apply(lerpValue), animationPoint.animationStartValue(), animationPoint.animationEndValue());
+		return Mth.lerp(buildTransformer(easingValue).get(lerpValue), animationPoint.animationStartValue(), animationPoint.animationEndValue());
+	}
+
+	/**
+	 * Primitive equivalent of {@link #lerpWithOverride(AnimationPoint, EasingType)}, used by the animation pipeline to avoid needing an {@link AnimationPoint} instance
+	 */
+	static double lerpWithOverride(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue, @Nullable EasingType override) {
+		EasingType easingType = override;
+
+		if (override == null)
+			easingType = keyFrame == null ? LINEAR : keyFrame.easingType();
+
+		return easingType.apply(keyFrame, currentTick, transitionLength, startValue, endValue);
+	}
+
+	/**
+	 * Primitive equivalent of {@link #apply(AnimationPoint)}
+	 */
+	default double apply(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue) {
+		if (currentTick >= transitionLength)
+			return (float)endValue;
+
+		// Use the keyframe's pre-built curve where possible, so we aren't building a new transformer every sample
+		if (keyFrame != null && keyFrame.easingType() == this && keyFrame.easingCurve() != null)
+			return Mth.lerp(keyFrame.easingCurve().get(currentTick / transitionLength), startValue, endValue);
+
+		Double easingVariable = null;
+
+		if (keyFrame != null && !keyFrame.easingArgs().isEmpty())
+			easingVariable = keyFrame.easingArgs().get(0).get();
+
+		return Mth.lerp(buildTransformer(easingVariable).get(currentTick / transitionLength), startValue, endValue);
 	}
 
 	/**
@@ -155,7 +187,7 @@ public interface EasingType {
 	 * Returns an easing function running backwards in time
 	 */
 	static Double2DoubleFunction easeOut(Double2DoubleFunction function) {
-		return time -> 1 - function.apply(1 - time);
+		return time -> 1 - function.get(1 - time);
 	}
 
 	/**
@@ -164,9 +196,9 @@ public interface EasingType {
 	static Double2DoubleFunction easeInOut(Double2DoubleFunction function) {
 		return time -> {
 			if (time < 0.5d)
-				return function.apply(time * 2d) / 2d;
+				return function.get(time * 2d) / 2d;
 
-			return 1 - function.apply((1 - time) * 2d) / 2d;
+			return 1 - function.get((1 - time) * 2d) / 2d;
 		};
 	}
 
@@ -286,7 +318,7 @@ public interface EasingType {
 		Double2DoubleFunction three = x -> 121 * n2 * n2 * Math.pow(x - 9f / 11f, 2) + 1 - n2 * n2;
 		Double2DoubleFunction four = x -> 484 * n2 * n2 * n2 * Math.pow(x - 10.5f / 11f, 2) + 1 - n2 * n2 * n2;
 
-		return t -> Math.min(Math.min(one.apply(t), two.apply(t)), Math.min(three.apply(t), four.apply(t)));
+		return t -> Math.min(Math.min(one.get(t), two.get(t)), Math.min(three.get(t), four.get(t)));
 	}
 
 	/**
@@ -5,16 +5,154 @@
 
 package software.bernie.geckolib.animation.keyframe;
 
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.AnimationController;
-
-import java.io.Serial;
-import java.util.LinkedList;
+import software.bernie.geckolib.animation.EasingType;
 
 /**
  * An {@link AnimationPoint} queue holds a queue of {@code AnimationPoints} which are used in
  * the {@link AnimationController} to lerp between values
+ * <p>
+ * Points are stored in primitive ring slots rather than as individual objects, so that a queue can be
+ * {@link #clear() cleared} and reused every frame without allocating
  */
-public final class AnimationPointQueue extends LinkedList<AnimationPoint> {
-	@Serial
-	private static final long serialVersionUID = 5472797438476621193L;
+public final class AnimationPointQueue {
+	private static final int STRIDE = 4;
+
+	private Keyframe<?>[] keyframes = new Keyframe<?>[2];
+	private double[] values = new double[2 * STRIDE];
+	private int head = 0;
+	private int size = 0;
+	private int keyframeCursor = 0;
+
+	/**
+	 * Add a new point to the end of the queue
+	 *
+	 * @param keyFrame The {@code Nullable} Keyframe relevant to the animation point
+	 * @param currentTick The lerped tick time (current tick + partial tick) of the point
+	 * @param transitionLength The length of time (in ticks) that the point should take to transition
+	 * @param startValue The start value to provide to the animation handling system
+	 * @param endValue The end value to provide to the animation handling system
+	 */
+	public void add(@Nullable Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue) {
+		if (this.size == this.keyframes.length)
+			grow();
+
+		int slot = (this.head + this.size) % this.keyframes.length;
+		int index = slot * STRIDE;
+
+		this.keyframes[slot] = keyFrame;
+		this.values[index] = currentTick;
+		this.values[index + 1] = transitionLength;
+		this.values[index + 2] = startValue;
+		this.values[index + 3] = endValue;
+		this.size++;
+	}
+
+	/**
+	 * Add an existing {@link AnimationPoint} to the end of the queue
+	 */
+	public void add(AnimationPoint point) {
+		add(point.keyFrame(), point.currentTick(), point.transitionLength(), point.animationStartValue(), point.animationEndValue());
+	}
+
+	/**
+	 * Remove the point at the head of the queue, and return its eased value
+	 *
+	 * @param override The {@link EasingType} override to apply in place of the point's keyframe easing, or null to use the keyframe's
+	 * @return The eased value of the point at its current tick
+	 * @throws IllegalStateException If the queue is empty
+	 */
+	public double pollValue(@Nullable EasingType override) {
+		if (this.size == 0)
+			throw new IllegalStateException("Attempted to poll an empty AnimationPointQueue");
+
+		int index = this.head * STRIDE;
+		Keyframe<?> keyFrame = this.keyframes[this.head];
+
+		removeHead();
+
+		return EasingType.lerpWithOverride(keyFrame, this.values[index], this.values[index + 1], this.values[index + 2], this.values[index + 3], override);
+	}
+
+	/**
+	 * Remove the point at the head of the queue and return it as an {@link AnimationPoint}
+	 * <p>
+	 * Prefer {@link #pollValue(EasingType)} where possible, as this method allocates a new object
+	 *
+	 * @return The point at the head of the queue, or null if the queue is empty
+	 */
+	@Nullable
+	public AnimationPoint poll() {
+		if (this.size == 0)
+			return null;
+
+		int index = this.head * STRIDE;
+		AnimationPoint point = new AnimationPoint(this.keyframes[this.head], this.values[index], this.values[index + 1], this.values[index + 2], this.values[index + 3]);
+
+		removeHead();
+
+		return point;
+	}
+
+	/**
+	 * Get the index of the keyframe that was last used to add a point to this queue
+	 * <p>
+	 * Used as a starting point for the next keyframe lookup, as animation time generally moves forward by a small amount each frame
+	 */
+	public int getKeyframeCursor() {
+		return this.keyframeCursor;
+	}
+
+	/**
+	 * Set the index of the keyframe that was last used to add a point to this queue
+	 *
+	 * @see #getKeyframeCursor()
+	 */
+	public void setKeyframeCursor(int index) {
+		this.keyframeCursor = index;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Empty this queue, ready for reuse
+	 */
+	public void clear() {
+		for (int i = 0; i < this.size; i++) {
+			this.keyframes[(this.head + i) % this.keyframes.length] = null;
+		}
+
+		this.head = 0;
+		this.size = 0;
+	}
+
+	private void removeHead() {
+		this.keyframes[this.head] = null;
+		this.head = (this.head + 1) % this.keyframes.length;
+		this.size--;
+	}
+
+	private void grow() {
+		int capacity = this.keyframes.length;
+		Keyframe<?>[] newKeyframes = new Keyframe<?>[capacity * 2];
+		double[] newValues = new double[capacity * 2 * STRIDE];
+
+		for (int i = 0; i < this.size; i++) {
+			int slot = (this.head + i) % capacity;
+
+			newKeyframes[i] = this.keyframes[slot];
+			System.arraycopy(this.values, slot * STRIDE, newValues, i * STRIDE, STRIDE);
+		}
+
+		this.keyframes = newKeyframes;
+		this.values = newValues;
+		this.head = 0;
+	}
 }
@@ -19,6 +19,21 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 				new AnimationPointQueue(), new AnimationPointQueue(), new AnimationPointQueue());
 	}
 
+	/**
+	 * Empty all of the point queues for this bone, ready to be reused for the next render frame
+	 */
+	public void clear() {
+		this.rotationXQueue.clear();
+		this.rotationYQueue.clear();
+		this.rotationZQueue.clear();
+		this.positionXQueue.clear();
+		this.positionYQueue.clear();
+		this.positionZQueue.clear();
+		this.scaleXQueue.clear();
+		this.scaleYQueue.clear();
+		this.scaleZQueue.clear();
+	}
+
 	/**
 	 * Add a new {@link AnimationPoint} to the {@link BoneAnimationQueue#positionXQueue}
 	 *
@@ -29,7 +44,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -42,7 +57,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -55,7 +70,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -85,7 +100,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -98,7 +113,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -111,7 +126,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -141,7 +156,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -154,7 +169,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -167,7 +182,7 @@ public record BoneAnimationQueue(GeoBone bone, AnimationPointQueue rotationXQueu
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
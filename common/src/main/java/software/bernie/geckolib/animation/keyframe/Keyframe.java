@@ -5,12 +5,16 @@
 
 package software.bernie.geckolib.animation.keyframe;
 
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.doubles.Double2DoubleFunction;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.EasingType;
 import software.bernie.geckolib.loading.math.MathValue;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Animation keyframe data
@@ -20,14 +24,75 @@ import java.util.Objects;
  * @param endValue The value to end the keyframe's transformation with
  * @param easingType The {@code EasingType} to use for transformations
  * @param easingArgs The arguments to provide to the easing calculation
+ * @param easingCurve The pre-built easing transformer for this keyframe, or null if it has to be built at the time of use (such as for non-constant easing args)
  */
-public record Keyframe<T extends MathValue>(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs) {
+public record Keyframe<T extends MathValue>(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs, @Nullable Double2DoubleFunction easingCurve) {
+	/**
+	 * Whether loaded keyframes should be {@link #intern interned}, sharing a single instance between identical keyframes across all loaded animations
+	 */
+	public static boolean INTERN = true;
+	private static final Map<Keyframe<?>, Keyframe<?>> INTERNED = new ConcurrentHashMap<>();
+
 	public Keyframe(double length, T startValue, T endValue) {
 		this(length, startValue, endValue, EasingType.LINEAR);
 	}
 
 	public Keyframe(double length, T startValue, T endValue, EasingType easingType) {
-		this(length, startValue, endValue, easingType, new ObjectArrayList<>(0));
+		this(length, startValue, endValue, easingType, List.of());
+	}
+
+	public Keyframe(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs) {
+		this(length, startValue, endValue, easingType, easingArgs, buildEasingCurve(easingType, easingArgs));
+	}
+
+	/**
+	 * Build the easing transformer for a keyframe ahead of time, so that it doesn't need to be rebuilt each time the keyframe is sampled
+	 * <p>
+	 * This is only possible if the easing argument (if present) is a fixed value
+	 *
+	 * @return The easing transformer, or null if it can't be determined ahead of time
+	 */
+	@Nullable
+	public static Double2DoubleFunction buildEasingCurve(EasingType easingType, List<? extends MathValue> easingArgs) {
+		if (!easingArgs.isEmpty() && easingArgs.getFirst().isMutable())
+			return null;
+
+		try {
+			return easingType.buildTransformer(easingArgs.isEmpty() ? null : easingArgs.getFirst().get());
+		}
+		catch (RuntimeException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Get the shared instance of the given keyframe, if an identical keyframe has already been interned
+	 * <p>
+	 * Only keyframes with immutable values are interned, as keyframes with mutable values are never identical to another
+	 *
+	 * @return The shared instance of the keyframe, or the keyframe itself if it is the first of its kind, or can't be interned
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends MathValue> Keyframe<T> intern(Keyframe<T> keyframe) {
+		if (keyframe.startValue().isMutable() || keyframe.endValue().isMutable())
+			return keyframe;
+
+		for (T easingArg : keyframe.easingArgs()) {
+			if (easingArg.isMutable())
+				return keyframe;
+		}
+
+		return (Keyframe<T>)INTERNED.computeIfAbsent(keyframe, key -> key);
+	}
+
+	/**
+	 * Clear the interned keyframes, allowing them to be garbage collected once no longer in use<br>
+	 * Interning is only needed while animations are loading, so this is called once loading has completed,
+	 * or after each file when {@link software.bernie.geckolib.cache.GeckoLibCache#LAZY_LOADING lazy loading}
+	 */
+	@ApiStatus.Internal
+	public static void clearInterned() {
+		INTERNED.clear();
 	}
 
 	@Override
@@ -40,9 +105,13 @@ public record Keyframe<T extends MathValue>(double length, T startValue, T endVa
 		if (this == obj)
 			return true;
 
-		if (obj == null || getClass() != obj.getClass())
+		if (!(obj instanceof Keyframe<?> other))
 			return false;
 
-		return hashCode() == obj.hashCode();
+		return Double.compare(this.length, other.length) == 0 &&
+			   this.easingType == other.easingType &&
+			   this.startValue.equals(other.startValue) &&
+			   this.endValue.equals(other.endValue) &&
+			   this.easingArgs.equals(other.easingArgs);
 	}
 }
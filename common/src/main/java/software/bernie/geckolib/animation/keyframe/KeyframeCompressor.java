@@ -0,0 +1,208 @@
+package software.bernie.geckolib.animation.keyframe;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import software.bernie.geckolib.animation.EasingType;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Constant;
+
+import java.util.List;
+
+/**
+ * Bake-time compression of {@link KeyframeStack KeyframeStacks}
+ * <p>
+ * Constant keyframe values are first quantised to a grid the size of the given tolerance, after which redundant keyframes are removed:
+ * <ul>
+ *     <li>Zero-length keyframes that don't change the value of the axis</li>
+ *     <li>Runs of linear keyframes that can be replaced by a single linear keyframe, such as hold frames or collinear frames</li>
+ * </ul>
+ * Runs are only merged while every removed keyframe remains within half of the tolerance of the merged keyframe,
+ * so the total error introduced by quantising and merging never exceeds the tolerance.
+ * <p>
+ * Keyframes with non-constant values, non-linear easing, or easing args are never merged or quantised
+ */
+public final class KeyframeCompressor {
+	/**
+	 * Whether keyframe stacks should be compressed when animations are loaded
+	 */
+	public static boolean ENABLED = false;
+	/**
+	 * Whether constant keyframe values should be quantised to a grid the size of the tolerance before compressing
+	 */
+	public static boolean QUANTISE = true;
+	/**
+	 * The maximum error (in radians) allowed to be introduced into rotation keyframes
+	 */
+	public static double ANGULAR_TOLERANCE = 0.001;
+	/**
+	 * The maximum error allowed to be introduced into position and scale keyframes
+	 */
+	public static double POSITIONAL_TOLERANCE = 0.001;
+
+	private KeyframeCompressor() {}
+
+	/**
+	 * Compress the given keyframe stack within the given tolerance
+	 *
+	 * @param stack The keyframe stack to compress
+	 * @param tolerance The maximum error allowed to be introduced into any axis of the stack at any point in time
+	 * @return The compressed stack, or the original stack if it couldn't be compressed
+	 */
+	public static KeyframeStack<Keyframe<MathValue>> compress(KeyframeStack<Keyframe<MathValue>> stack, double tolerance) {
+		if (tolerance <= 0)
+			return stack;
+
+		List<Keyframe<MathValue>> xKeyframes = compressAxis(stack.xKeyframes(), stack.xEndTimes() != null, tolerance);
+		List<Keyframe<MathValue>> yKeyframes = compressAxis(stack.yKeyframes(), stack.yEndTimes() != null, tolerance);
+		List<Keyframe<MathValue>> zKeyframes = compressAxis(stack.zKeyframes(), stack.zEndTimes() != null, tolerance);
+
+		if (xKeyframes == stack.xKeyframes() && yKeyframes == stack.yKeyframes() && zKeyframes == stack.zKeyframes())
+			return stack;
+
+		return new KeyframeStack<>(xKeyframes, yKeyframes, zKeyframes);
+	}
+
+	/**
+	 * Compress a single axis of keyframes
+	 *
+	 * @param keyframes The keyframes to compress
+	 * @param chronological Whether the keyframes are in chronological order. Out-of-order keyframes are left as-is
+	 * @param tolerance The maximum error allowed to be introduced at any point in time
+	 * @return The compressed keyframes, or the original list if nothing was changed
+	 */
+	private static List<Keyframe<MathValue>> compressAxis(List<Keyframe<MathValue>> keyframes, boolean chronological, double tolerance) {
+		if (!chronological || keyframes.size() < 2)
+			return keyframes;
+
+		ObjectArrayList<Keyframe<MathValue>> compressed = new ObjectArrayList<>(keyframes.size());
+		DoubleArrayList runTimes = new DoubleArrayList();
+		DoubleArrayList runValues = new DoubleArrayList();
+		double mergeTolerance = tolerance * 0.5d;
+		boolean changed = false;
+
+		for (Keyframe<MathValue> keyframe : keyframes) {
+			Keyframe<MathValue> frame = QUANTISE ? quantise(keyframe, tolerance) : keyframe;
+			changed |= frame != keyframe;
+
+			if (compressed.isEmpty()) {
+				compressed.add(frame);
+
+				continue;
+			}
+
+			Keyframe<MathValue> last = compressed.getLast();
+
+			if (isRedundant(last, frame)) {
+				changed = true;
+
+				continue;
+			}
+
+			if (canMerge(last, frame)) {
+				double length = last.length() + frame.length();
+				double start = last.startValue().get();
+				double end = frame.endValue().get();
+
+				runTimes.add(last.length());
+				runValues.add(last.endValue().get());
+
+				if (fitsLine(runTimes, runValues, length, start, end, mergeTolerance)) {
+					compressed.set(compressed.size() - 1, new Keyframe<>(length, last.startValue(), frame.endValue(), EasingType.LINEAR, last.easingArgs()));
+
+					changed = true;
+
+					continue;
+				}
+			}
+
+			runTimes.clear();
+			runValues.clear();
+			compressed.add(frame);
+		}
+
+		if (!changed)
+			return keyframes;
+
+		compressed.trim();
+
+		return compressed;
+	}
+
+	/**
+	 * Snap a keyframe's constant values to a grid of the given step size
+	 *
+	 * @return The quantised keyframe, or the original keyframe if it has no values to quantise
+	 */
+	private static Keyframe<MathValue> quantise(Keyframe<MathValue> keyframe, double step) {
+		MathValue startValue = quantise(keyframe.startValue(), step);
+		MathValue endValue = quantise(keyframe.endValue(), step);
+
+		if (startValue == keyframe.startValue() && endValue == keyframe.endValue())
+			return keyframe;
+
+		return new Keyframe<>(keyframe.length(), startValue, endValue, keyframe.easingType(), keyframe.easingArgs(), keyframe.easingCurve());
+	}
+
+	private static MathValue quantise(MathValue value, double step) {
+		if (!(value instanceof Constant constant))
+			return value;
+
+		double quantised = Math.round(constant.value() / step) * step;
+
+		return Math.abs(quantised - constant.value()) < 1e-9 ? value : Constant.of(quantised);
+	}
+
+	/**
+	 * Whether the given keyframe is a zero-length keyframe that doesn't change the value of the axis
+	 */
+	private static boolean isRedundant(Keyframe<MathValue> previous, Keyframe<MathValue> keyframe) {
+		if (keyframe.length() != 0 || !isConstant(previous) || !isConstant(keyframe))
+			return false;
+
+		double value = previous.endValue().get();
+
+		return keyframe.startValue().get() == value && keyframe.endValue().get() == value;
+	}
+
+	/**
+	 * Whether two sequential keyframes are both continuous linear transitions, and could therefore potentially be represented by a single keyframe
+	 */
+	private static boolean canMerge(Keyframe<MathValue> first, Keyframe<MathValue> second) {
+		if (!isLinear(first) || !isLinear(second))
+			return false;
+
+		if (first.length() <= 0 || second.length() <= 0)
+			return false;
+
+		return first.endValue().get() == second.startValue().get();
+	}
+
+	/**
+	 * Whether all the given points lie within the tolerance of the line between the start and end values
+	 *
+	 * @param times The times of the points, relative to the start of the line
+	 * @param values The values of the points
+	 * @param length The length of the line
+	 * @param start The value at the start of the line
+	 * @param end The value at the end of the line
+	 * @param tolerance The maximum distance from the line allowed for each point
+	 */
+	private static boolean fitsLine(DoubleArrayList times, DoubleArrayList values, double length, double start, double end, double tolerance) {
+		for (int i = 0; i < times.size(); i++) {
+			double expected = start + (end - start) * (times.getDouble(i) / length);
+
+			if (Math.abs(values.getDouble(i) - expected) > tolerance)
+				return false;
+		}
+
+		return true;
+	}
+
+	private static boolean isLinear(Keyframe<MathValue> keyframe) {
+		return keyframe.easingType() == EasingType.LINEAR && keyframe.easingArgs().isEmpty() && isConstant(keyframe);
+	}
+
+	private static boolean isConstant(Keyframe<MathValue> keyframe) {
+		return keyframe.startValue() instanceof Constant && keyframe.endValue() instanceof Constant;
+	}
+}
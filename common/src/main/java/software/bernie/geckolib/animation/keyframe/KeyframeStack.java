@@ -6,38 +6,130 @@
 package software.bernie.geckolib.animation.keyframe;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
 /**
  * Stores a triplet of {@link Keyframe Keyframes} in an ordered stack
+ * <p>
+ * Alongside the keyframes, the cumulative end time of each keyframe is computed at construction, allowing for
+ * {@link #findKeyframeIndex binary-searched} keyframe lookups at animation time.<br>
+ * The keyframe lists should therefore not be modified after the stack has been created
+ *
+ * @param xEndTimes The cumulative end time (in ticks) of each of the x-axis keyframes, or null if the keyframes aren't in chronological order
+ * @param yEndTimes The cumulative end time (in ticks) of each of the y-axis keyframes, or null if the keyframes aren't in chronological order
+ * @param zEndTimes The cumulative end time (in ticks) of each of the z-axis keyframes, or null if the keyframes aren't in chronological order
+ * @param samples The pre-sampled values of this stack, or null if it hasn't been {@link SampledTrack sampled}
  */
-public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes,
+												   @Nullable double[] xEndTimes, @Nullable double[] yEndTimes, @Nullable double[] zEndTimes,
+												   @Nullable SampledTrack samples) {
 	public KeyframeStack() {
 		this(new ObjectArrayList<>(), new ObjectArrayList<>(), new ObjectArrayList<>());
 	}
 
+	public KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+		this(xKeyframes, yKeyframes, zKeyframes, computeEndTimes(xKeyframes), computeEndTimes(yKeyframes), computeEndTimes(zKeyframes));
+	}
+
+	public KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes,
+						 @Nullable double[] xEndTimes, @Nullable double[] yEndTimes, @Nullable double[] zEndTimes) {
+		this(xKeyframes, yKeyframes, zKeyframes, xEndTimes, yEndTimes, zEndTimes, null);
+	}
+
 	public static <F extends Keyframe<?>> KeyframeStack<F> from(KeyframeStack<F> otherStack) {
-		return new KeyframeStack<>(otherStack.xKeyframes, otherStack.yKeyframes, otherStack.zKeyframes);
+		return new KeyframeStack<>(otherStack.xKeyframes, otherStack.yKeyframes, otherStack.zKeyframes, otherStack.xEndTimes, otherStack.yEndTimes, otherStack.zEndTimes, otherStack.samples);
+	}
+
+	/**
+	 * Create a copy of this stack with the given pre-sampled values
+	 */
+	public KeyframeStack<T> withSamples(@Nullable SampledTrack samples) {
+		return new KeyframeStack<>(this.xKeyframes, this.yKeyframes, this.zKeyframes, this.xEndTimes, this.yEndTimes, this.zEndTimes, samples);
 	}
 
 	public double getLastKeyframeTime() {
-		double xTime = 0;
-		double yTime = 0;
-		double zTime = 0;
+		return Math.max(getTotalTime(this.xKeyframes, this.xEndTimes), Math.max(getTotalTime(this.yKeyframes, this.yEndTimes), getTotalTime(this.zKeyframes, this.zEndTimes)));
+	}
+
+	/**
+	 * Compute the cumulative end times for a list of keyframes
+	 *
+	 * @return The end time of each keyframe, in order, or null if the keyframes are not in chronological order
+	 */
+	@Nullable
+	public static double[] computeEndTimes(List<? extends Keyframe<?>> keyframes) {
+		double[] endTimes = new double[keyframes.size()];
+		double totalTime = 0;
+
+		for (int i = 0; i < endTimes.length; i++) {
+			double length = keyframes.get(i).length();
+
+			if (length < 0)
+				return null;
+
+			totalTime += length;
+			endTimes[i] = totalTime;
+		}
+
+		return endTimes;
+	}
 
-		for (T frame : xKeyframes()) {
-			xTime += frame.length();
+	/**
+	 * Find the index of the keyframe that is active at the given tick
+	 * <p>
+	 * The provided {@code hint} is checked first, along with the index following it, before falling back to a binary search.
+	 * This makes the lookup effectively constant time when animation time is moving forward
+	 *
+	 * @param endTimes The cumulative end times of the keyframes, as computed by {@link #computeEndTimes}
+	 * @param tick The tick to find the active keyframe for
+	 * @param hint The index of the previously active keyframe, or any other guess
+	 * @return The index of the first keyframe that ends after the given tick, or -1 if the tick is beyond the end of the last keyframe
+	 */
+	public static int findKeyframeIndex(double[] endTimes, double tick, int hint) {
+		int count = endTimes.length;
+
+		if (count == 0 || endTimes[count - 1] <= tick)
+			return -1;
+
+		if (hint >= 0 && hint < count) {
+			if (endTimes[hint] > tick) {
+				if (hint == 0 || endTimes[hint - 1] <= tick)
+					return hint;
+			}
+			else if (hint + 1 < count && endTimes[hint + 1] > tick) {
+				return hint + 1;
+			}
 		}
 
-		for (T frame : yKeyframes()) {
-			yTime += frame.length();
+		int low = 0;
+		int high = count - 1;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (endTimes[mid] > tick) {
+				high = mid;
+			}
+			else {
+				low = mid + 1;
+			}
 		}
 
-		for (T frame : zKeyframes()) {
-			zTime += frame.length();
+		return low;
+	}
+
+	private static double getTotalTime(List<? extends Keyframe<?>> keyframes, @Nullable double[] endTimes) {
+		if (endTimes != null)
+			return endTimes.length == 0 ? 0 : endTimes[endTimes.length - 1];
+
+		double time = 0;
+
+		for (Keyframe<?> frame : keyframes) {
+			time += frame.length();
 		}
 
-		return Math.max(xTime, Math.max(yTime, zTime));
+		return time;
 	}
 }
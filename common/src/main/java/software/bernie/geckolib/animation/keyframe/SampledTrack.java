@@ -0,0 +1,155 @@
+package software.bernie.geckolib.animation.keyframe;
+
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.animation.EasingType;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Constant;
+
+import java.util.List;
+
+/**
+ * A {@link KeyframeStack} pre-sampled at a fixed rate into a packed array of xyz values
+ * <p>
+ * Only stacks whose keyframe values and easing arguments are all {@link Constant Constants} can be sampled, as their values can't change at runtime.
+ * Evaluating a sampled track is then just an index and a lerp between two samples, instead of looking up and easing between keyframes.
+ * <p>
+ * Sampling is lossy: sharp changes between samples (such as at keyframe boundaries, or with step easing) are smoothed over the
+ * width of a sample. Sampled tracks are therefore only used when {@link #ENABLED enabled}, and only when no
+ * {@link software.bernie.geckolib.animation.AnimationController#setOverrideEasingType override easing} is in use
+ */
+public final class SampledTrack {
+	/**
+	 * Whether constant keyframe stacks should be pre-sampled when animations are loaded
+	 */
+	public static boolean ENABLED = false;
+	/**
+	 * The number of samples to take per tick of animation
+	 */
+	public static int SAMPLES_PER_TICK = 4;
+	/**
+	 * The maximum number of samples to store for a single track. Tracks that would need more are left un-sampled
+	 */
+	public static int MAX_SAMPLES = 4096;
+
+	private final float[] values;
+	private final double samplesPerTick;
+	private final int lastSample;
+
+	private SampledTrack(float[] values, double samplesPerTick) {
+		this.values = values;
+		this.samplesPerTick = samplesPerTick;
+		this.lastSample = values.length / 3 - 1;
+	}
+
+	/**
+	 * Sample the given keyframe stack, if possible
+	 *
+	 * @param stack The keyframe stack to sample
+	 * @return The sampled track, or null if the stack can't be sampled
+	 */
+	@Nullable
+	public static SampledTrack sample(KeyframeStack<Keyframe<MathValue>> stack) {
+		if (stack.xKeyframes().isEmpty() || stack.yKeyframes().isEmpty() || stack.zKeyframes().isEmpty())
+			return null;
+
+		if (stack.xEndTimes() == null || stack.yEndTimes() == null || stack.zEndTimes() == null)
+			return null;
+
+		if (!isConstant(stack.xKeyframes()) || !isConstant(stack.yKeyframes()) || !isConstant(stack.zKeyframes()))
+			return null;
+
+		int rate = Math.max(1, SAMPLES_PER_TICK);
+		double length = stack.getLastKeyframeTime();
+		double sampleCount = Math.ceil(length * rate) + 1;
+
+		if (sampleCount > MAX_SAMPLES)
+			return null;
+
+		float[] values = new float[(int)sampleCount * 3];
+
+		for (int i = 0; i < sampleCount; i++) {
+			double tick = i / (double)rate;
+
+			values[i * 3] = (float)sampleAxis(stack.xKeyframes(), stack.xEndTimes(), tick);
+			values[i * 3 + 1] = (float)sampleAxis(stack.yKeyframes(), stack.yEndTimes(), tick);
+			values[i * 3 + 2] = (float)sampleAxis(stack.zKeyframes(), stack.zEndTimes(), tick);
+		}
+
+		return new SampledTrack(values, rate);
+	}
+
+	/**
+	 * Add the value of this track at the given tick to each axis' {@link AnimationPointQueue}
+	 *
+	 * @param xQueue The queue for the x-axis
+	 * @param yQueue The queue for the y-axis
+	 * @param zQueue The queue for the z-axis
+	 * @param tick The animation tick to sample at
+	 */
+	public void addPoints(AnimationPointQueue xQueue, AnimationPointQueue yQueue, AnimationPointQueue zQueue, double tick) {
+		double position = Math.max(0, tick * this.samplesPerTick);
+		int sample = (int)position;
+
+		if (sample >= this.lastSample) {
+			int index = this.lastSample * 3;
+
+			addValue(xQueue, this.values[index]);
+			addValue(yQueue, this.values[index + 1]);
+			addValue(zQueue, this.values[index + 2]);
+
+			return;
+		}
+
+		float delta = (float)(position - sample);
+		int index = sample * 3;
+
+		addValue(xQueue, this.values[index] + delta * (this.values[index + 3] - this.values[index]));
+		addValue(yQueue, this.values[index + 1] + delta * (this.values[index + 4] - this.values[index + 1]));
+		addValue(zQueue, this.values[index + 2] + delta * (this.values[index + 5] - this.values[index + 2]));
+	}
+
+	/**
+	 * Add an already-computed value to the queue, as a point that has already reached its end value
+	 */
+	private static void addValue(AnimationPointQueue queue, float value) {
+		queue.add(null, 0, 0, value, value);
+	}
+
+	/**
+	 * @return The number of samples stored per axis
+	 */
+	public int getSampleCount() {
+		return this.lastSample + 1;
+	}
+
+	private static boolean isConstant(List<Keyframe<MathValue>> keyframes) {
+		for (Keyframe<MathValue> keyframe : keyframes) {
+			if (!(keyframe.startValue() instanceof Constant) || !(keyframe.endValue() instanceof Constant))
+				return false;
+
+			for (MathValue easingArg : keyframe.easingArgs()) {
+				if (!(easingArg instanceof Constant))
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compute the value of a single axis at the given tick, in the same way as the animation controller does for un-sampled keyframes
+	 */
+	private static double sampleAxis(List<Keyframe<MathValue>> keyframes, double[] endTimes, double tick) {
+		int index = KeyframeStack.findKeyframeIndex(endTimes, tick, -1);
+
+		if (index == -1) {
+			Keyframe<MathValue> lastFrame = keyframes.getLast();
+
+			return EasingType.lerpWithOverride(lastFrame, tick, lastFrame.length(), lastFrame.startValue().get(), lastFrame.endValue().get(), null);
+		}
+
+		Keyframe<MathValue> frame = keyframes.get(index);
+
+		return EasingType.lerpWithOverride(frame, tick - (endTimes[index] - frame.length()), frame.length(), frame.startValue().get(), frame.endValue().get(), null);
+	}
+}
@@ -0,0 +1,593 @@
+package software.bernie.geckolib.animation.state;
+
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Vector3d;
+import org.joml.Vector4f;
+import software.bernie.geckolib.animation.AnimatableManager;
+import software.bernie.geckolib.animation.AnimationPrePass;
+import software.bernie.geckolib.animation.AnimationProcessor;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+import software.bernie.geckolib.renderer.GeoRenderer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The animated pose of every bone in a model for a single animatable instance, stored as flat arrays indexed by {@link GeoBone#getIndex() bone index}
+ * <p>
+ * {@link GeoBone GeoBones} are shared between all instances of a {@link BakedGeoModel} and only hold the model's geometry, so each
+ * {@link AnimatableManager} keeps its own pose. The {@link AnimationProcessor} writes the instance's animations into it,
+ * and {@link GeoRenderer GeoRenderers} read from it when rendering that instance
+ * <p>
+ * The pose of the animatable currently being rendered is available via {@link #getRendering()}
+ */
+public final class BonePoseBuffer {
+	private static final byte HIDDEN = 1;
+	private static final byte CHILDREN_HIDDEN = 1 << 1;
+	private static final byte ROTATION_CHANGED = 1 << 2;
+	private static final byte POSITION_CHANGED = 1 << 3;
+	private static final byte SCALE_CHANGED = 1 << 4;
+	private static final byte TRACKING_MATRICES = 1 << 5;
+	private static final byte STATE_CHANGES = ROTATION_CHANGED | POSITION_CHANGED | SCALE_CHANGED;
+
+	@Nullable
+	private static BonePoseBuffer rendering = null;
+
+	private float[] rotX = new float[0];
+	private float[] rotY = new float[0];
+	private float[] rotZ = new float[0];
+	private float[] posX = new float[0];
+	private float[] posY = new float[0];
+	private float[] posZ = new float[0];
+	private float[] scaleX = new float[0];
+	private float[] scaleY = new float[0];
+	private float[] scaleZ = new float[0];
+	private byte[] flags = new byte[0];
+	@Nullable
+	private Matrix4f[] modelSpaceMatrices = null;
+	@Nullable
+	private Matrix4f[] localSpaceMatrices = null;
+	@Nullable
+	private Matrix4f[] worldSpaceMatrices = null;
+	@Nullable
+	private BakedGeoModel model = null;
+	private boolean animated = false;
+	private long preparedFrame = -1;
+
+	/**
+	 * Create a new pose holding the rest pose of the given model
+	 */
+	public static BonePoseBuffer forModel(BakedGeoModel model) {
+		BonePoseBuffer pose = new BonePoseBuffer();
+
+		pose.prepare(model);
+
+		return pose;
+	}
+
+	/**
+	 * Prepare this pose for the given model
+	 * <p>
+	 * If this pose already belongs to the given model, it is left as-is. Otherwise, it is reset to the model's rest pose
+	 */
+	public void prepare(BakedGeoModel model) {
+		if (this.model == model)
+			return;
+
+		List<GeoBone> bones = model.bones();
+		int count = bones.size();
+
+		if (this.flags.length < count)
+			resize(count);
+
+		for (int i = 0; i < count; i++) {
+			GeoBone bone = bones.get(i);
+			BoneSnapshot restPose = bone.getInitialSnapshot();
+
+			this.rotX[i] = restPose.getRotX();
+			this.rotY[i] = restPose.getRotY();
+			this.rotZ[i] = restPose.getRotZ();
+			this.posX[i] = 0;
+			this.posY[i] = 0;
+			this.posZ[i] = 0;
+			this.scaleX[i] = 1;
+			this.scaleY[i] = 1;
+			this.scaleZ[i] = 1;
+			this.flags[i] = bone.shouldNeverRender() == Boolean.TRUE ? HIDDEN : 0;
+		}
+
+		this.model = model;
+		this.animated = false;
+		this.preparedFrame = -1;
+	}
+
+	/**
+	 * @return The model this pose belongs to, or null if it hasn't been {@link #prepare prepared} for one
+	 */
+	@Nullable
+	public BakedGeoModel getModel() {
+		return this.model;
+	}
+
+	/**
+	 * Mark this pose as holding the computed animations for its model, rather than just its rest pose
+	 */
+	public void markAnimated() {
+		this.animated = true;
+	}
+
+	/**
+	 * @return Whether this pose holds the computed animations for its model, rather than just its rest pose
+	 */
+	public boolean isAnimated() {
+		return this.animated;
+	}
+
+	/**
+	 * Mark this pose as having been computed ahead of rendering for the given frame
+	 *
+	 * @see AnimationPrePass
+	 */
+	public void markPrepared(long frame) {
+		if (this.model != null)
+			this.preparedFrame = frame;
+	}
+
+	/**
+	 * @return Whether this pose was {@link #markPrepared prepared} for the given frame
+	 */
+	public boolean isPrepared(long frame) {
+		return this.preparedFrame == frame;
+	}
+
+	/**
+	 * Mark this pose as no longer belonging to any model, so that it is reset the next time it is {@link #prepare prepared}
+	 */
+	public void invalidate() {
+		this.model = null;
+		this.animated = false;
+		this.preparedFrame = -1;
+	}
+
+	/**
+	 * Copy the given pose into this one
+	 * <p>
+	 * Whether each bone is {@link #isTrackingMatrices tracking its matrices} is kept as-is
+	 */
+	public void set(BonePoseBuffer other) {
+		if (other.model == null) {
+			invalidate();
+
+			return;
+		}
+
+		prepare(other.model);
+
+		int count = other.model.boneCount();
+
+		System.arraycopy(other.rotX, 0, this.rotX, 0, count);
+		System.arraycopy(other.rotY, 0, this.rotY, 0, count);
+		System.arraycopy(other.rotZ, 0, this.rotZ, 0, count);
+		System.arraycopy(other.posX, 0, this.posX, 0, count);
+		System.arraycopy(other.posY, 0, this.posY, 0, count);
+		System.arraycopy(other.posZ, 0, this.posZ, 0, count);
+		System.arraycopy(other.scaleX, 0, this.scaleX, 0, count);
+		System.arraycopy(other.scaleY, 0, this.scaleY, 0, count);
+		System.arraycopy(other.scaleZ, 0, this.scaleZ, 0, count);
+
+		for (int i = 0; i < count; i++) {
+			this.flags[i] = copyFlags(other.flags[i], this.flags[i]);
+		}
+
+		this.animated = other.animated;
+	}
+
+	/**
+	 * Set this pose to a blend of two poses of the same model
+	 * <p>
+	 * Rotations are blended along the shortest arc between the two poses. Visibility and state markers are taken from the later pose
+	 *
+	 * @param from The earlier pose to blend from
+	 * @param to The later pose to blend to
+	 * @param blend How far between the earlier pose (0) and the later pose (1) to set this pose to
+	 */
+	public void interpolate(BonePoseBuffer from, BonePoseBuffer to, float blend) {
+		if (blend >= 1 || from.model != to.model) {
+			set(to);
+
+			return;
+		}
+
+		if (to.model == null) {
+			invalidate();
+
+			return;
+		}
+
+		prepare(to.model);
+
+		for (int i = 0; i < to.model.boneCount(); i++) {
+			this.rotX[i] = lerpRotation(blend, from.rotX[i], to.rotX[i]);
+			this.rotY[i] = lerpRotation(blend, from.rotY[i], to.rotY[i]);
+			this.rotZ[i] = lerpRotation(blend, from.rotZ[i], to.rotZ[i]);
+			this.posX[i] = Mth.lerp(blend, from.posX[i], to.posX[i]);
+			this.posY[i] = Mth.lerp(blend, from.posY[i], to.posY[i]);
+			this.posZ[i] = Mth.lerp(blend, from.posZ[i], to.posZ[i]);
+			this.scaleX[i] = Mth.lerp(blend, from.scaleX[i], to.scaleX[i]);
+			this.scaleY[i] = Mth.lerp(blend, from.scaleY[i], to.scaleY[i]);
+			this.scaleZ[i] = Mth.lerp(blend, from.scaleZ[i], to.scaleZ[i]);
+			this.flags[i] = copyFlags(to.flags[i], this.flags[i]);
+		}
+
+		this.animated = to.animated;
+	}
+
+	/**
+	 * Interpolate between two rotations (in radians) along the shortest arc, so that rotations wrapping around (E.G. from +π to -π in a looping animation)
+	 * don't spin the long way round
+	 */
+	private static float lerpRotation(float blend, float from, float to) {
+		float delta = (to - from) % Mth.TWO_PI;
+
+		if (delta > Mth.PI) {
+			delta -= Mth.TWO_PI;
+		}
+		else if (delta < -Mth.PI) {
+			delta += Mth.TWO_PI;
+		}
+
+		return from + blend * delta;
+	}
+
+	private static byte copyFlags(byte source, byte target) {
+		return (byte)((source & ~TRACKING_MATRICES) | (target & TRACKING_MATRICES));
+	}
+
+	public float getRotX(int boneIndex) {
+		return this.rotX[boneIndex];
+	}
+
+	public float getRotY(int boneIndex) {
+		return this.rotY[boneIndex];
+	}
+
+	public float getRotZ(int boneIndex) {
+		return this.rotZ[boneIndex];
+	}
+
+	public float getPosX(int boneIndex) {
+		return this.posX[boneIndex];
+	}
+
+	public float getPosY(int boneIndex) {
+		return this.posY[boneIndex];
+	}
+
+	public float getPosZ(int boneIndex) {
+		return this.posZ[boneIndex];
+	}
+
+	public float getScaleX(int boneIndex) {
+		return this.scaleX[boneIndex];
+	}
+
+	public float getScaleY(int boneIndex) {
+		return this.scaleY[boneIndex];
+	}
+
+	public float getScaleZ(int boneIndex) {
+		return this.scaleZ[boneIndex];
+	}
+
+	public void setRotX(int boneIndex, float value) {
+		this.rotX[boneIndex] = value;
+
+		markRotationAsChanged(boneIndex);
+	}
+
+	public void setRotY(int boneIndex, float value) {
+		this.rotY[boneIndex] = value;
+
+		markRotationAsChanged(boneIndex);
+	}
+
+	public void setRotZ(int boneIndex, float value) {
+		this.rotZ[boneIndex] = value;
+
+		markRotationAsChanged(boneIndex);
+	}
+
+	public void updateRotation(int boneIndex, float xRot, float yRot, float zRot) {
+		setRotX(boneIndex, xRot);
+		setRotY(boneIndex, yRot);
+		setRotZ(boneIndex, zRot);
+	}
+
+	public void setPosX(int boneIndex, float value) {
+		this.posX[boneIndex] = value;
+
+		markPositionAsChanged(boneIndex);
+	}
+
+	public void setPosY(int boneIndex, float value) {
+		this.posY[boneIndex] = value;
+
+		markPositionAsChanged(boneIndex);
+	}
+
+	public void setPosZ(int boneIndex, float value) {
+		this.posZ[boneIndex] = value;
+
+		markPositionAsChanged(boneIndex);
+	}
+
+	public void updatePosition(int boneIndex, float posX, float posY, float posZ) {
+		setPosX(boneIndex, posX);
+		setPosY(boneIndex, posY);
+		setPosZ(boneIndex, posZ);
+	}
+
+	public void setScaleX(int boneIndex, float value) {
+		this.scaleX[boneIndex] = value;
+
+		markScaleAsChanged(boneIndex);
+	}
+
+	public void setScaleY(int boneIndex, float value) {
+		this.scaleY[boneIndex] = value;
+
+		markScaleAsChanged(boneIndex);
+	}
+
+	public void setScaleZ(int boneIndex, float value) {
+		this.scaleZ[boneIndex] = value;
+
+		markScaleAsChanged(boneIndex);
+	}
+
+	public void updateScale(int boneIndex, float scaleX, float scaleY, float scaleZ) {
+		setScaleX(boneIndex, scaleX);
+		setScaleY(boneIndex, scaleY);
+		setScaleZ(boneIndex, scaleZ);
+	}
+
+	public boolean isHidden(int boneIndex) {
+		return hasFlag(boneIndex, HIDDEN);
+	}
+
+	public void setHidden(int boneIndex, boolean hidden) {
+		setFlag(boneIndex, HIDDEN, hidden);
+		setChildrenHidden(boneIndex, hidden);
+	}
+
+	public boolean isHidingChildren(int boneIndex) {
+		return hasFlag(boneIndex, CHILDREN_HIDDEN);
+	}
+
+	public void setChildrenHidden(int boneIndex, boolean hideChildren) {
+		setFlag(boneIndex, CHILDREN_HIDDEN, hideChildren);
+	}
+
+	public void markRotationAsChanged(int boneIndex) {
+		this.flags[boneIndex] |= ROTATION_CHANGED;
+	}
+
+	public void markPositionAsChanged(int boneIndex) {
+		this.flags[boneIndex] |= POSITION_CHANGED;
+	}
+
+	public void markScaleAsChanged(int boneIndex) {
+		this.flags[boneIndex] |= SCALE_CHANGED;
+	}
+
+	public boolean hasRotationChanged(int boneIndex) {
+		return hasFlag(boneIndex, ROTATION_CHANGED);
+	}
+
+	public boolean hasPositionChanged(int boneIndex) {
+		return hasFlag(boneIndex, POSITION_CHANGED);
+	}
+
+	public boolean hasScaleChanged(int boneIndex) {
+		return hasFlag(boneIndex, SCALE_CHANGED);
+	}
+
+	/**
+	 * Reset the transformation markers of every bone, ready for the next render frame
+	 */
+	public void resetStateChanges() {
+		if (this.model == null)
+			return;
+
+		for (int i = 0; i < this.model.boneCount(); i++) {
+			this.flags[i] &= ~STATE_CHANGES;
+		}
+	}
+
+	public boolean isTrackingMatrices(int boneIndex) {
+		return hasFlag(boneIndex, TRACKING_MATRICES);
+	}
+
+	public void setTrackingMatrices(int boneIndex, boolean trackingMatrices) {
+		setFlag(boneIndex, TRACKING_MATRICES, trackingMatrices);
+	}
+
+	/**
+	 * Get the bone's transform relative to the model, as of the last time it was rendered
+	 * <p>
+	 * Calling this starts tracking the bone's matrices from the next render onward
+	 */
+	public Matrix4f getModelSpaceMatrix(int boneIndex) {
+		setTrackingMatrices(boneIndex, true);
+
+		return (this.modelSpaceMatrices = getOrCreateMatrix(this.modelSpaceMatrices, boneIndex))[boneIndex];
+	}
+
+	public void setModelSpaceMatrix(int boneIndex, Matrix4f matrix) {
+		(this.modelSpaceMatrices = getOrCreateMatrix(this.modelSpaceMatrices, boneIndex))[boneIndex].set(matrix);
+	}
+
+	/**
+	 * Get the bone's transform relative to its owner, as of the last time it was rendered
+	 * <p>
+	 * Calling this starts tracking the bone's matrices from the next render onward
+	 */
+	public Matrix4f getLocalSpaceMatrix(int boneIndex) {
+		setTrackingMatrices(boneIndex, true);
+
+		return (this.localSpaceMatrices = getOrCreateMatrix(this.localSpaceMatrices, boneIndex))[boneIndex];
+	}
+
+	public void setLocalSpaceMatrix(int boneIndex, Matrix4f matrix) {
+		(this.localSpaceMatrices = getOrCreateMatrix(this.localSpaceMatrices, boneIndex))[boneIndex].set(matrix);
+	}
+
+	/**
+	 * Get the bone's transform relative to the world, as of the last time it was rendered
+	 * <p>
+	 * Calling this starts tracking the bone's matrices from the next render onward
+	 */
+	public Matrix4f getWorldSpaceMatrix(int boneIndex) {
+		setTrackingMatrices(boneIndex, true);
+
+		return (this.worldSpaceMatrices = getOrCreateMatrix(this.worldSpaceMatrices, boneIndex))[boneIndex];
+	}
+
+	public void setWorldSpaceMatrix(int boneIndex, Matrix4f matrix) {
+		(this.worldSpaceMatrices = getOrCreateMatrix(this.worldSpaceMatrices, boneIndex))[boneIndex].set(matrix);
+	}
+
+	/**
+	 * Get the position of the bone relative to its owner
+	 */
+	public Vector3d getLocalPosition(int boneIndex) {
+		Vector4f vec = getLocalSpaceMatrix(boneIndex).transform(new Vector4f(0, 0, 0, 1));
+
+		return new Vector3d(vec.x(), vec.y(), vec.z());
+	}
+
+	/**
+	 * Get the position of the bone relative to the model it belongs to
+	 */
+	public Vector3d getModelPosition(int boneIndex) {
+		Vector4f vec = getModelSpaceMatrix(boneIndex).transform(new Vector4f(0, 0, 0, 1));
+
+		return new Vector3d(-vec.x() * 16f, vec.y() * 16f, vec.z() * 16f);
+	}
+
+	/**
+	 * Get the position of the bone relative to the world
+	 */
+	public Vector3d getWorldPosition(int boneIndex) {
+		Vector4f vec = getWorldSpaceMatrix(boneIndex).transform(new Vector4f(0, 0, 0, 1));
+
+		return new Vector3d(vec.x(), vec.y(), vec.z());
+	}
+
+	public void setModelPosition(int boneIndex, Vector3d pos) {
+		// Doesn't work on bones with parent transforms
+		GeoBone parent = this.model == null ? null : this.model.bones().get(boneIndex).getParent();
+		Matrix4f matrix = (parent == null ? new Matrix4f().identity() : new Matrix4f(getModelSpaceMatrix(parent.getIndex()))).invert();
+		Vector4f vec = matrix.transform(new Vector4f(-(float)pos.x / 16f, (float)pos.y / 16f, (float)pos.z / 16f, 1));
+
+		updatePosition(boneIndex, -vec.x() * 16f, vec.y() * 16f, vec.z() * 16f);
+	}
+
+	public Matrix4f getModelRotationMatrix(int boneIndex) {
+		Matrix4f matrix = new Matrix4f(getModelSpaceMatrix(boneIndex));
+		matrix.m03(0);
+		matrix.m13(0);
+		matrix.m23(0);
+
+		return matrix;
+	}
+
+	public Vector3d getPositionVector(int boneIndex) {
+		return new Vector3d(getPosX(boneIndex), getPosY(boneIndex), getPosZ(boneIndex));
+	}
+
+	public Vector3d getRotationVector(int boneIndex) {
+		return new Vector3d(getRotX(boneIndex), getRotY(boneIndex), getRotZ(boneIndex));
+	}
+
+	public Vector3d getScaleVector(int boneIndex) {
+		return new Vector3d(getScaleX(boneIndex), getScaleY(boneIndex), getScaleZ(boneIndex));
+	}
+
+	/**
+	 * Add the rotation the source bone has been animated by (relative to its rest pose) to the target bone
+	 */
+	public void addRotationOffsetFromBone(int boneIndex, GeoBone source) {
+		BoneSnapshot restPose = source.getInitialSnapshot();
+		int sourceIndex = source.getIndex();
+
+		setRotX(boneIndex, getRotX(boneIndex) + getRotX(sourceIndex) - restPose.getRotX());
+		setRotY(boneIndex, getRotY(boneIndex) + getRotY(sourceIndex) - restPose.getRotY());
+		setRotZ(boneIndex, getRotZ(boneIndex) + getRotZ(sourceIndex) - restPose.getRotZ());
+	}
+
+	private boolean hasFlag(int boneIndex, byte flag) {
+		return (this.flags[boneIndex] & flag) != 0;
+	}
+
+	private void setFlag(int boneIndex, byte flag, boolean value) {
+		if (value) {
+			this.flags[boneIndex] |= flag;
+		}
+		else {
+			this.flags[boneIndex] &= (byte)~flag;
+		}
+	}
+
+	private Matrix4f[] getOrCreateMatrix(@Nullable Matrix4f[] matrices, int boneIndex) {
+		if (matrices == null || matrices.length < this.flags.length)
+			matrices = matrices == null ? new Matrix4f[this.flags.length] : Arrays.copyOf(matrices, this.flags.length);
+
+		if (matrices[boneIndex] == null)
+			matrices[boneIndex] = new Matrix4f();
+
+		return matrices;
+	}
+
+	private void resize(int count) {
+		this.rotX = new float[count];
+		this.rotY = new float[count];
+		this.rotZ = new float[count];
+		this.posX = new float[count];
+		this.posY = new float[count];
+		this.posZ = new float[count];
+		this.scaleX = new float[count];
+		this.scaleY = new float[count];
+		this.scaleZ = new float[count];
+		this.flags = new byte[count];
+		this.modelSpaceMatrices = null;
+		this.localSpaceMatrices = null;
+		this.worldSpaceMatrices = null;
+	}
+
+	/**
+	 * @return The pose of the animatable currently being rendered, or null if none
+	 */
+	@Nullable
+	public static BonePoseBuffer getRendering() {
+		return rendering;
+	}
+
+	/**
+	 * Set the pose of the animatable currently being rendered
+	 *
+	 * @return The previously set pose, to be restored when the render is complete
+	 */
+	@ApiStatus.Internal
+	@Nullable
+	public static BonePoseBuffer setRendering(@Nullable BonePoseBuffer pose) {
+		BonePoseBuffer previous = rendering;
+		rendering = pose;
+
+		return previous;
+	}
+}
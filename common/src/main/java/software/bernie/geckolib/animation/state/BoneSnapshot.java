@@ -32,24 +32,34 @@ public class BoneSnapshot {
 	private boolean posAnimInProgress = true;
 	private boolean scaleAnimInProgress = true;
 
+	/**
+	 * Create a snapshot of the given bone's {@link GeoBone#getInitialSnapshot() rest pose}
+	 */
 	public BoneSnapshot(GeoBone bone) {
-		this.rotX = bone.getRotX();
-		this.rotY = bone.getRotY();
-		this.rotZ = bone.getRotZ();
+		this(bone, bone.getInitialSnapshot().getRotX(), bone.getInitialSnapshot().getRotY(), bone.getInitialSnapshot().getRotZ());
+	}
+
+	/**
+	 * Create a snapshot of the given bone with the given rotation, and no offset or scaling
+	 */
+	public BoneSnapshot(GeoBone bone, float rotX, float rotY, float rotZ) {
+		this.rotX = rotX;
+		this.rotY = rotY;
+		this.rotZ = rotZ;
 
-		this.offsetPosX = bone.getPosX();
-		this.offsetPosY = bone.getPosY();
-		this.offsetPosZ = bone.getPosZ();
+		this.offsetPosX = 0;
+		this.offsetPosY = 0;
+		this.offsetPosZ = 0;
 
-		this.scaleX = bone.getScaleX();
-		this.scaleY = bone.getScaleY();
-		this.scaleZ = bone.getScaleZ();
+		this.scaleX = 1;
+		this.scaleY = 1;
+		this.scaleZ = 1;
 
 		this.bone = bone;
 	}
 
 	public static BoneSnapshot copy(BoneSnapshot snapshot) {
-		BoneSnapshot newSnapshot = new BoneSnapshot(snapshot.bone);
+		BoneSnapshot newSnapshot = new BoneSnapshot(snapshot.bone, snapshot.rotX, snapshot.rotY, snapshot.rotZ);
 
 		newSnapshot.scaleX = snapshot.scaleX;
 		newSnapshot.scaleY = snapshot.scaleY;
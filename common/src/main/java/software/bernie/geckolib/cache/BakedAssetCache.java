@@ -0,0 +1,778 @@
+package software.bernie.geckolib.cache;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.GeckoLibServices;
+import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.EasingType;
+import software.bernie.geckolib.animation.keyframe.BoneAnimation;
+import software.bernie.geckolib.animation.keyframe.Keyframe;
+import software.bernie.geckolib.animation.keyframe.KeyframeCompressor;
+import software.bernie.geckolib.animation.keyframe.KeyframeStack;
+import software.bernie.geckolib.animation.keyframe.SampledTrack;
+import software.bernie.geckolib.animation.keyframe.event.data.CustomInstructionKeyframeData;
+import software.bernie.geckolib.animation.keyframe.event.data.ParticleKeyframeData;
+import software.bernie.geckolib.animation.keyframe.event.data.SoundKeyframeData;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+import software.bernie.geckolib.cache.object.GeoCube;
+import software.bernie.geckolib.cache.object.GeoQuad;
+import software.bernie.geckolib.cache.object.GeoVertex;
+import software.bernie.geckolib.loading.json.raw.ModelProperties;
+import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.value.Constant;
+import software.bernie.geckolib.loading.object.BakedAnimations;
+import software.bernie.geckolib.loading.object.BakedModelFactory;
+import software.bernie.geckolib.loading.object.HiddenFaceCuller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Persistent on-disk cache of baked animation and model files, allowing unchanged resources to skip json parsing and baking on subsequent reloads
+ * <p>
+ * Each entry is keyed by a hash of the resource's location and contents, so any change to a resource (or to which resource pack provides it) results in a new entry.
+ * Entries that weren't used in a reload are removed once the reload has completed.
+ * With {@link GeckoLibCache#LAZY_LOADING lazy loading}, where only the resources needed so far have been used, entries are instead removed
+ * once they haven't been used for {@link #MAX_UNUSED_AGE}.
+ * <p>
+ * Only resources that can be exactly reproduced are cached:
+ * <ul>
+ *     <li>Animations whose keyframes are all constant values, and whose easing and loop types are registered</li>
+ *     <li>Models that are baked by the {@link BakedModelFactory#DEFAULT_FACTORY default model factory}</li>
+ * </ul>
+ * All other resources are loaded as normal.
+ */
+public final class BakedAssetCache {
+	/**
+	 * Whether baked assets should be cached to disk and re-used across reloads
+	 */
+	public static boolean ENABLED = false;
+	/**
+	 * How long a cache entry can go unused before it is removed, when {@link GeckoLibCache#LAZY_LOADING lazy loading}
+	 */
+	public static Duration MAX_UNUSED_AGE = Duration.ofDays(30);
+
+	private static final int MAGIC = 0x47454342; // GECB
+	private static final int FORMAT_VERSION = 1;
+	private static final int HASH_CHUNK_SIZE = 8192;
+	private static final String ANIMATIONS = "animations";
+	private static final String MODELS = "models";
+	private static final Set<Path> USED_ENTRIES = ConcurrentHashMap.newKeySet();
+
+	private BakedAssetCache() {}
+
+	/**
+	 * Load a baked animations file from the cache if present, or bake it with the provided loader and cache the result
+	 *
+	 * @param location The resource path of the animations file
+	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
+	 * @param loader The loader to bake the animations file with if it isn't already cached
+	 */
+	public static BakedAnimations getOrLoadAnimations(ResourceLocation location, ResourceManager manager, Supplier<BakedAnimations> loader) {
+		if (!ENABLED)
+			return loader.get();
+
+		Path entry = getEntryPath(location, manager, ANIMATIONS, getAnimationSettingsKey());
+
+		if (entry == null)
+			return loader.get();
+
+		BakedAnimations animations = readEntry(entry, location, BakedAssetCache::readAnimations);
+
+		if (animations != null)
+			return animations;
+
+		animations = loader.get();
+
+		if (canCache(animations))
+			writeEntry(entry, location, animations, BakedAssetCache::writeAnimations);
+
+		return animations;
+	}
+
+	/**
+	 * Load a baked model file from the cache if present, or bake it with the provided loader and cache the result
+	 *
+	 * @param location The resource path of the model file
+	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
+	 * @param loader The loader to bake the model file with if it isn't already cached
+	 */
+	public static BakedGeoModel getOrLoadModel(ResourceLocation location, ResourceManager manager, Supplier<BakedGeoModel> loader) {
+		if (!ENABLED || BakedModelFactory.getForNamespace(location.getNamespace()) != BakedModelFactory.DEFAULT_FACTORY)
+			return loader.get();
+
+		Path entry = getEntryPath(location, manager, MODELS, getModelSettingsKey());
+
+		if (entry == null)
+			return loader.get();
+
+		BakedGeoModel model = readEntry(entry, location, BakedAssetCache::readModel);
+
+		if (model != null)
+			return model;
+
+		model = loader.get();
+
+		writeEntry(entry, location, model, BakedAssetCache::writeModel);
+
+		return model;
+	}
+
+	/**
+	 * Delete any cache entries that weren't used since the last time this was called
+	 */
+	@ApiStatus.Internal
+	public static void pruneUnusedEntries() {
+		pruneEntries(path -> true);
+	}
+
+	/**
+	 * Delete any cache entries that weren't used since the last time this was called, and haven't been used for {@link #MAX_UNUSED_AGE}
+	 * <p>
+	 * Used in place of {@link #pruneUnusedEntries()} when {@link GeckoLibCache#LAZY_LOADING lazy loading}, as not every resource will have been used
+	 */
+	@ApiStatus.Internal
+	public static void pruneExpiredEntries() {
+		FileTime cutoff = FileTime.from(Instant.now().minus(MAX_UNUSED_AGE));
+
+		pruneEntries(path -> {
+			try {
+				return Files.getLastModifiedTime(path).compareTo(cutoff) < 0;
+			}
+			catch (IOException ex) {
+				return false;
+			}
+		});
+	}
+
+	private static void pruneEntries(Predicate<Path> shouldPrune) {
+		if (!ENABLED) {
+			USED_ENTRIES.clear();
+
+			return;
+		}
+
+		for (String type : new String[] {ANIMATIONS, MODELS}) {
+			Path directory = getCacheDirectory().resolve(type);
+
+			if (!Files.isDirectory(directory))
+				continue;
+
+			try (Stream<Path> entries = Files.list(directory)) {
+				entries.filter(path -> !USED_ENTRIES.contains(path) && shouldPrune.test(path)).forEach(path -> {
+					try {
+						Files.deleteIfExists(path);
+					}
+					catch (IOException ex) {
+						GeckoLibConstants.LOGGER.debug("Unable to delete unused baked asset cache entry: {}", path, ex);
+					}
+				});
+			}
+			catch (IOException ex) {
+				GeckoLibConstants.LOGGER.warn("Unable to prune baked asset cache directory: {}", directory, ex);
+			}
+		}
+
+		USED_ENTRIES.clear();
+	}
+
+	public static Path getCacheDirectory() {
+		return GeckoLibServices.PLATFORM.getGameDir().resolve(".cache").resolve(GeckoLibConstants.MODID);
+	}
+
+	/**
+	 * Compute the path of the cache entry for the given resource, based on a hash of its location and contents
+	 *
+	 * @return The path of the cache entry, or null if the resource couldn't be read
+	 */
+	@Nullable
+	private static Path getEntryPath(ResourceLocation location, ResourceManager manager, String type, String settingsKey) {
+		try (InputStream stream = manager.getResourceOrThrow(location).open()) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+			byte[] buffer = new byte[HASH_CHUNK_SIZE];
+			int read;
+
+			digest.update((FORMAT_VERSION + ":" + type + ":" + settingsKey + ":" + location + ":").getBytes(StandardCharsets.UTF_8));
+
+			// Hash in fixed-size chunks rather than reading the whole file into memory, as geo and animation files can be several megabytes
+			while ((read = stream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+
+			Path path = getCacheDirectory().resolve(type).resolve(HexFormat.of().formatHex(digest.digest()) + ".bin");
+
+			USED_ENTRIES.add(path);
+
+			return path;
+		}
+		catch (IOException | NoSuchAlgorithmException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * The animation settings that affect the baked output, so that changing them invalidates existing entries
+	 */
+	private static String getAnimationSettingsKey() {
+		if (!KeyframeCompressor.ENABLED)
+			return "uncompressed";
+
+		return "compressed:" + KeyframeCompressor.QUANTISE + ":" + KeyframeCompressor.ANGULAR_TOLERANCE + ":" + KeyframeCompressor.POSITIONAL_TOLERANCE;
+	}
+
+	/**
+	 * The model settings that affect the baked output, so that changing them invalidates existing entries
+	 */
+	private static String getModelSettingsKey() {
+		if (!HiddenFaceCuller.ENABLED)
+			return "unculled";
+
+		return "culled:" + HiddenFaceCuller.ASSUME_OPAQUE;
+	}
+
+	@Nullable
+	private static <T> T readEntry(Path path, ResourceLocation location, EntryReader<T> reader) {
+		if (!Files.isRegularFile(path))
+			return null;
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+				return null;
+
+			T value = reader.read(buffer);
+
+			markUsed(path);
+
+			return value;
+		}
+		catch (IOException | RuntimeException ex) {
+			GeckoLibConstants.LOGGER.debug("Unable to read baked asset cache entry for {}, re-baking", location, ex);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Update the modification time of the given entry, so that it isn't {@link #pruneExpiredEntries() pruned} while it's still being used
+	 */
+	private static void markUsed(Path path) {
+		try {
+			Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+		}
+		catch (IOException ex) {
+			GeckoLibConstants.LOGGER.debug("Unable to update baked asset cache entry time: {}", path, ex);
+		}
+	}
+
+	private static <T> void writeEntry(Path path, ResourceLocation location, T value, EntryWriter<T> writer) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+
+			output.writeInt(MAGIC);
+			output.writeInt(FORMAT_VERSION);
+			writer.write(output, value);
+			output.flush();
+
+			Files.createDirectories(path.getParent());
+
+			Path tempPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+
+			Files.write(tempPath, bytes.toByteArray());
+
+			try {
+				Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			GeckoLibConstants.LOGGER.warn("Unable to write baked asset cache entry for {}", location, ex);
+		}
+	}
+
+	/**
+	 * Whether the given animations can be exactly reproduced from the cache
+	 */
+	private static boolean canCache(BakedAnimations animations) {
+		for (Animation animation : animations.animations().values()) {
+			if (getLoopTypeName(animation.loopType()) == null)
+				return false;
+
+			for (BoneAnimation boneAnimation : animation.boneAnimations()) {
+				if (!canCache(boneAnimation.rotationKeyFrames()) || !canCache(boneAnimation.positionKeyFrames()) || !canCache(boneAnimation.scaleKeyFrames()))
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean canCache(KeyframeStack<Keyframe<MathValue>> stack) {
+		return canCache(stack.xKeyframes()) && canCache(stack.yKeyframes()) && canCache(stack.zKeyframes());
+	}
+
+	private static boolean canCache(List<Keyframe<MathValue>> keyframes) {
+		for (Keyframe<MathValue> keyframe : keyframes) {
+			if (!(keyframe.startValue() instanceof Constant) || !(keyframe.endValue() instanceof Constant) || getEasingTypeName(keyframe.easingType()) == null)
+				return false;
+
+			for (MathValue easingArg : keyframe.easingArgs()) {
+				if (!(easingArg instanceof Constant))
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Nullable
+	private static String getLoopTypeName(Animation.LoopType loopType) {
+		for (Map.Entry<String, Animation.LoopType> entry : Animation.LoopType.LOOP_TYPES.entrySet()) {
+			if (entry.getValue() == loopType)
+				return entry.getKey();
+		}
+
+		return null;
+	}
+
+	@Nullable
+	private static String getEasingTypeName(EasingType easingType) {
+		for (Map.Entry<String, EasingType> entry : EasingType.EASING_TYPES.entrySet()) {
+			if (entry.getValue() == easingType)
+				return entry.getKey();
+		}
+
+		return null;
+	}
+
+	private static void writeAnimations(DataOutputStream output, BakedAnimations animations) throws IOException {
+		output.writeInt(animations.animations().size());
+
+		for (Animation animation : animations.animations().values()) {
+			writeString(output, animation.name());
+			output.writeDouble(animation.length());
+			writeString(output, getLoopTypeName(animation.loopType()));
+			output.writeInt(animation.boneAnimations().length);
+
+			for (BoneAnimation boneAnimation : animation.boneAnimations()) {
+				writeString(output, boneAnimation.boneName());
+				writeKeyframeStack(output, boneAnimation.rotationKeyFrames());
+				writeKeyframeStack(output, boneAnimation.positionKeyFrames());
+				writeKeyframeStack(output, boneAnimation.scaleKeyFrames());
+			}
+
+			Animation.Keyframes keyframes = animation.keyFrames();
+
+			output.writeInt(keyframes.sounds().length);
+
+			for (SoundKeyframeData sound : keyframes.sounds()) {
+				output.writeDouble(sound.getStartTick());
+				writeString(output, sound.getSound());
+			}
+
+			output.writeInt(keyframes.particles().length);
+
+			for (ParticleKeyframeData particle : keyframes.particles()) {
+				output.writeDouble(particle.getStartTick());
+				writeString(output, particle.getEffect());
+				writeString(output, particle.getLocator());
+				writeString(output, particle.script());
+			}
+
+			output.writeInt(keyframes.customInstructions().length);
+
+			for (CustomInstructionKeyframeData instruction : keyframes.customInstructions()) {
+				output.writeDouble(instruction.getStartTick());
+				writeString(output, instruction.getInstructions());
+			}
+		}
+	}
+
+	private static void writeKeyframeStack(DataOutputStream output, KeyframeStack<Keyframe<MathValue>> stack) throws IOException {
+		writeKeyframes(output, stack.xKeyframes());
+		writeKeyframes(output, stack.yKeyframes());
+		writeKeyframes(output, stack.zKeyframes());
+	}
+
+	private static void writeKeyframes(DataOutputStream output, List<Keyframe<MathValue>> keyframes) throws IOException {
+		output.writeInt(keyframes.size());
+
+		for (Keyframe<MathValue> keyframe : keyframes) {
+			output.writeDouble(keyframe.length());
+			output.writeDouble(keyframe.startValue().get());
+			output.writeDouble(keyframe.endValue().get());
+			writeString(output, getEasingTypeName(keyframe.easingType()));
+			output.writeInt(keyframe.easingArgs().size());
+
+			for (MathValue easingArg : keyframe.easingArgs()) {
+				output.writeDouble(easingArg.get());
+			}
+		}
+	}
+
+	private static BakedAnimations readAnimations(ByteBuffer buffer) throws IOException {
+		int animationCount = buffer.getInt();
+		Map<String, Animation> animations = new Object2ObjectOpenHashMap<>(animationCount);
+
+		for (int i = 0; i < animationCount; i++) {
+			String name = readString(buffer);
+			double length = buffer.getDouble();
+			Animation.LoopType loopType = Animation.LoopType.LOOP_TYPES.get(readString(buffer));
+
+			if (loopType == null)
+				throw new IOException("Unknown loop type in cached animation: " + name);
+
+			BoneAnimation[] boneAnimations = new BoneAnimation[buffer.getInt()];
+
+			for (int j = 0; j < boneAnimations.length; j++) {
+				boneAnimations[j] = new BoneAnimation(readString(buffer), readKeyframeStack(buffer), readKeyframeStack(buffer), readKeyframeStack(buffer));
+			}
+
+			SoundKeyframeData[] sounds = new SoundKeyframeData[buffer.getInt()];
+
+			for (int j = 0; j < sounds.length; j++) {
+				sounds[j] = new SoundKeyframeData(buffer.getDouble(), readString(buffer));
+			}
+
+			ParticleKeyframeData[] particles = new ParticleKeyframeData[buffer.getInt()];
+
+			for (int j = 0; j < particles.length; j++) {
+				particles[j] = new ParticleKeyframeData(buffer.getDouble(), readString(buffer), readString(buffer), readString(buffer));
+			}
+
+			CustomInstructionKeyframeData[] customInstructions = new CustomInstructionKeyframeData[buffer.getInt()];
+
+			for (int j = 0; j < customInstructions.length; j++) {
+				customInstructions[j] = new CustomInstructionKeyframeData(buffer.getDouble(), readString(buffer));
+			}
+
+			animations.put(name, new Animation(name, length, loopType, boneAnimations, new Animation.Keyframes(sounds, particles, customInstructions)));
+		}
+
+		return new BakedAnimations(animations);
+	}
+
+	private static KeyframeStack<Keyframe<MathValue>> readKeyframeStack(ByteBuffer buffer) throws IOException {
+		KeyframeStack<Keyframe<MathValue>> stack = new KeyframeStack<>(readKeyframes(buffer), readKeyframes(buffer), readKeyframes(buffer));
+
+		return SampledTrack.ENABLED ? stack.withSamples(SampledTrack.sample(stack)) : stack;
+	}
+
+	private static List<Keyframe<MathValue>> readKeyframes(ByteBuffer buffer) throws IOException {
+		int count = buffer.getInt();
+
+		if (count == 0)
+			return List.of();
+
+		List<Keyframe<MathValue>> keyframes = new ObjectArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			double length = buffer.getDouble();
+			Constant startValue = Constant.of(buffer.getDouble());
+			Constant endValue = Constant.of(buffer.getDouble());
+			String easingName = readString(buffer);
+			EasingType easingType = EasingType.EASING_TYPES.get(easingName);
+
+			if (easingType == null)
+				throw new IOException("Unknown easing type in cached animation: " + easingName);
+
+			int easingArgCount = buffer.getInt();
+			List<MathValue> easingArgs = easingArgCount == 0 ? List.of() : new ObjectArrayList<>(easingArgCount);
+
+			for (int j = 0; j < easingArgCount; j++) {
+				easingArgs.add(Constant.of(buffer.getDouble()));
+			}
+
+			Keyframe<MathValue> keyframe = new Keyframe<>(length, startValue, endValue, easingType, easingArgs);
+
+			keyframes.add(Keyframe.INTERN ? Keyframe.intern(keyframe) : keyframe);
+		}
+
+		return keyframes;
+	}
+
+	private static void writeModel(DataOutputStream output, BakedGeoModel model) throws IOException {
+		ModelProperties properties = model.properties();
+
+		writeNullableBoolean(output, properties.animationArmsDown());
+		writeNullableBoolean(output, properties.animationArmsOutFront());
+		writeNullableBoolean(output, properties.animationDontShowArmor());
+		writeNullableBoolean(output, properties.animationInvertedCrouch());
+		writeNullableBoolean(output, properties.animationNoHeadBob());
+		writeNullableBoolean(output, properties.animationSingleArmAnimation());
+		writeNullableBoolean(output, properties.animationSingleLegAnimation());
+		writeNullableBoolean(output, properties.animationStationaryLegs());
+		writeNullableBoolean(output, properties.animationStatueOfLibertyArms());
+		writeNullableBoolean(output, properties.animationUpsideDown());
+		writeNullableString(output, properties.identifier());
+		writeNullableBoolean(output, properties.preserveModelPose());
+		output.writeDouble(properties.textureHeight());
+		output.writeDouble(properties.textureWidth());
+		writeNullableDouble(output, properties.visibleBoundsHeight());
+		writeDoubleArray(output, properties.visibleBoundsOffset());
+		writeNullableDouble(output, properties.visibleBoundsWidth());
+
+		output.writeInt(model.topLevelBones().size());
+
+		for (GeoBone bone : model.topLevelBones()) {
+			writeBone(output, bone);
+		}
+	}
+
+	private static void writeBone(DataOutputStream output, GeoBone bone) throws IOException {
+		writeString(output, bone.getName());
+		writeNullableBoolean(output, bone.getMirror());
+		writeNullableDouble(output, bone.getInflate());
+		writeNullableBoolean(output, bone.shouldNeverRender());
+		writeNullableBoolean(output, bone.getReset());
+		output.writeFloat(bone.getInitialSnapshot().getRotX());
+		output.writeFloat(bone.getInitialSnapshot().getRotY());
+		output.writeFloat(bone.getInitialSnapshot().getRotZ());
+		output.writeFloat(bone.getPivotX());
+		output.writeFloat(bone.getPivotY());
+		output.writeFloat(bone.getPivotZ());
+		output.writeInt(bone.getCubes().size());
+
+		for (GeoCube cube : bone.getCubes()) {
+			writeCube(output, cube);
+		}
+
+		output.writeInt(bone.getChildBones().size());
+
+		for (GeoBone child : bone.getChildBones()) {
+			writeBone(output, child);
+		}
+	}
+
+	private static void writeCube(DataOutputStream output, GeoCube cube) throws IOException {
+		output.writeInt(cube.quads().length);
+
+		for (GeoQuad quad : cube.quads()) {
+			output.writeBoolean(quad != null);
+
+			if (quad == null)
+				continue;
+
+			output.writeByte(quad.direction().ordinal());
+			output.writeFloat(quad.normal().x);
+			output.writeFloat(quad.normal().y);
+			output.writeFloat(quad.normal().z);
+			output.writeInt(quad.vertices().length);
+
+			for (GeoVertex vertex : quad.vertices()) {
+				output.writeFloat(vertex.position().x);
+				output.writeFloat(vertex.position().y);
+				output.writeFloat(vertex.position().z);
+				output.writeFloat(vertex.texU());
+				output.writeFloat(vertex.texV());
+			}
+		}
+
+		writeVec3(output, cube.pivot());
+		writeVec3(output, cube.rotation());
+		writeVec3(output, cube.size());
+		output.writeDouble(cube.inflate());
+		output.writeBoolean(cube.mirror());
+	}
+
+	private static BakedGeoModel readModel(ByteBuffer buffer) {
+		ModelProperties properties = new ModelProperties(readNullableBoolean(buffer), readNullableBoolean(buffer), readNullableBoolean(buffer),
+				readNullableBoolean(buffer), readNullableBoolean(buffer), readNullableBoolean(buffer), readNullableBoolean(buffer),
+				readNullableBoolean(buffer), readNullableBoolean(buffer), readNullableBoolean(buffer), readNullableString(buffer),
+				readNullableBoolean(buffer), buffer.getDouble(), buffer.getDouble(), readNullableDouble(buffer), readDoubleArray(buffer),
+				readNullableDouble(buffer));
+		int boneCount = buffer.getInt();
+		List<GeoBone> bones = new ObjectArrayList<>(boneCount);
+
+		for (int i = 0; i < boneCount; i++) {
+			bones.add(readBone(buffer, null));
+		}
+
+		return new BakedGeoModel(bones, properties);
+	}
+
+	private static GeoBone readBone(ByteBuffer buffer, @Nullable GeoBone parent) {
+		String name = readString(buffer);
+		Boolean mirror = readNullableBoolean(buffer);
+		Double inflate = readNullableDouble(buffer);
+		Boolean dontRender = readNullableBoolean(buffer);
+		Boolean reset = readNullableBoolean(buffer);
+		Vector3f rotation = new Vector3f(buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+		Vector3f pivot = new Vector3f(buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+		GeoBone bone = new GeoBone(parent, name, mirror, inflate, dontRender, reset, pivot, rotation);
+
+		int cubeCount = buffer.getInt();
+
+		for (int i = 0; i < cubeCount; i++) {
+			bone.getCubes().add(readCube(buffer));
+		}
+
+		int childCount = buffer.getInt();
+
+		for (int i = 0; i < childCount; i++) {
+			bone.getChildBones().add(readBone(buffer, bone));
+		}
+
+		return bone;
+	}
+
+	private static GeoCube readCube(ByteBuffer buffer) {
+		GeoQuad[] quads = new GeoQuad[buffer.getInt()];
+
+		for (int i = 0; i < quads.length; i++) {
+			if (buffer.get() == 0)
+				continue;
+
+			Direction direction = Direction.values()[buffer.get()];
+			Vector3f normal = new Vector3f(buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+			GeoVertex[] vertices = new GeoVertex[buffer.getInt()];
+
+			for (int j = 0; j < vertices.length; j++) {
+				vertices[j] = new GeoVertex(new Vector3f(buffer.getFloat(), buffer.getFloat(), buffer.getFloat()), buffer.getFloat(), buffer.getFloat());
+			}
+
+			quads[i] = new GeoQuad(vertices, normal, direction);
+		}
+
+		return new GeoCube(quads, readVec3(buffer), readVec3(buffer), readVec3(buffer), buffer.getDouble(), buffer.get() != 0);
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+
+		if (length < 0 || length > buffer.remaining())
+			throw new BufferUnderflowException();
+
+		byte[] bytes = new byte[length];
+
+		buffer.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeNullableString(DataOutputStream output, @Nullable String value) throws IOException {
+		output.writeBoolean(value != null);
+
+		if (value != null)
+			writeString(output, value);
+	}
+
+	@Nullable
+	private static String readNullableString(ByteBuffer buffer) {
+		return buffer.get() == 0 ? null : readString(buffer);
+	}
+
+	private static void writeNullableBoolean(DataOutputStream output, @Nullable Boolean value) throws IOException {
+		output.writeByte(value == null ? -1 : value ? 1 : 0);
+	}
+
+	@Nullable
+	private static Boolean readNullableBoolean(ByteBuffer buffer) {
+		byte value = buffer.get();
+
+		return value == -1 ? null : value == 1;
+	}
+
+	private static void writeNullableDouble(DataOutputStream output, @Nullable Double value) throws IOException {
+		output.writeBoolean(value != null);
+
+		if (value != null)
+			output.writeDouble(value);
+	}
+
+	@Nullable
+	private static Double readNullableDouble(ByteBuffer buffer) {
+		return buffer.get() == 0 ? null : buffer.getDouble();
+	}
+
+	private static void writeDoubleArray(DataOutputStream output, @Nullable double[] values) throws IOException {
+		output.writeInt(values == null ? -1 : values.length);
+
+		if (values != null) {
+			for (double value : values) {
+				output.writeDouble(value);
+			}
+		}
+	}
+
+	@Nullable
+	private static double[] readDoubleArray(ByteBuffer buffer) {
+		int length = buffer.getInt();
+
+		if (length == -1)
+			return null;
+
+		double[] values = new double[length];
+
+		for (int i = 0; i < length; i++) {
+			values[i] = buffer.getDouble();
+		}
+
+		return values;
+	}
+
+	private static void writeVec3(DataOutputStream output, Vec3 vec) throws IOException {
+		output.writeDouble(vec.x);
+		output.writeDouble(vec.y);
+		output.writeDouble(vec.z);
+	}
+
+	private static Vec3 readVec3(ByteBuffer buffer) {
+		return new Vec3(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+	}
+
+	@FunctionalInterface
+	private interface EntryReader<T> {
+		T read(ByteBuffer buffer) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface EntryWriter<T> {
+		void write(DataOutputStream output, T value) throws IOException;
+	}
+}
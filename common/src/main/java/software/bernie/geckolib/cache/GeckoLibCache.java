@@ -7,11 +7,14 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.PreparableReloadListener.PreparationBarrier;
 import net.minecraft.server.packs.resources.ReloadableResourceManager;
 import net.minecraft.server.packs.resources.ResourceManager;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.animation.Animation;
+import software.bernie.geckolib.animation.keyframe.Keyframe;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.loading.FileLoader;
 import software.bernie.geckolib.loading.json.raw.Model;
+import software.bernie.geckolib.loading.math.MolangCompiler;
 import software.bernie.geckolib.loading.object.BakedAnimations;
 import software.bernie.geckolib.loading.object.BakedModelFactory;
 import software.bernie.geckolib.loading.object.GeometryTree;
@@ -33,10 +36,22 @@ import java.util.function.Function;
  * and {@link GeoModel Models}
  */
 public final class GeckoLibCache {
+	private static final String LOD_VARIANT_SUFFIX = ".lod1.";
 	private static final Set<String> EXCLUDED_NAMESPACES = ObjectOpenHashSet.of("moreplayermodels", "customnpcs", "gunsrpg");
 
 	private static Map<ResourceLocation, BakedAnimations> ANIMATIONS = Collections.emptyMap();
 	private static Map<ResourceLocation, BakedGeoModel> MODELS = Collections.emptyMap();
+	private static Map<ResourceLocation, ResourceLocation> LOD_VARIANTS = Collections.emptyMap();
+
+	/**
+	 * Whether animation and model files should only be baked the first time they're requested, rather than all being baked when resources are reloaded
+	 * <p>
+	 * Most large resource packs contain many more assets than are ever seen in a single session, so this can greatly reduce reload times and memory usage.
+	 * Files that fail to load are only reported when they're first requested, instead of during the reload.
+	 * <p>
+	 * Use {@link #prefetchModel} and {@link #prefetchAnimations} to bake resources ahead of time in the background
+	 */
+	public static boolean LAZY_LOADING = false;
 
 	public static Map<ResourceLocation, BakedAnimations> getBakedAnimations() {
 		return ANIMATIONS;
@@ -46,6 +61,19 @@ public final class GeckoLibCache {
 		return MODELS;
 	}
 
+	/**
+	 * Get the location of the reduced {@link software.bernie.geckolib.renderer.BoneLod level-of-detail} variant of the given model, if one exists
+	 * <p>
+	 * Variants are declared by adding a model with the same name, suffixed with {@code .lod1}. E.G. {@code geo/entity/bat.lod1.geo.json}
+	 *
+	 * @param modelResource The full-detail model resource
+	 * @return The reduced variant's location, or null if the model doesn't have one
+	 */
+	@Nullable
+	public static ResourceLocation getLodVariant(ResourceLocation modelResource) {
+		return LOD_VARIANTS.get(modelResource);
+	}
+
 	public static void registerReloadListener() {
 		Minecraft mc = Minecraft.getInstance();
 
@@ -54,37 +82,98 @@ public final class GeckoLibCache {
 	}
 
 	public static CompletableFuture<Void> reload(PreparationBarrier stage, ResourceManager resourceManager, Executor backgroundExecutor, Executor gameExecutor) {
+		MolangCompiler.clearCache();
+		Keyframe.clearInterned();
+
+		if (LAZY_LOADING)
+			return reloadLazily(stage, resourceManager, backgroundExecutor, gameExecutor);
+
 		Map<ResourceLocation, BakedAnimations> animations = new Object2ObjectOpenHashMap<>();
 		Map<ResourceLocation, BakedGeoModel> models = new Object2ObjectOpenHashMap<>();
 
 		return CompletableFuture.allOf(
-				loadAnimations(backgroundExecutor, resourceManager, animations::put),
-				loadModels(backgroundExecutor, resourceManager, models::put))
+				loadResources(backgroundExecutor, resourceManager, "animations", resource -> loadAnimations(resource, resourceManager), animations::put),
+				loadResources(backgroundExecutor, resourceManager, "geo", resource -> loadModel(resource, resourceManager), models::put))
 				.thenCompose(stage::wait).thenAcceptAsync(empty -> {
 					GeckoLibCache.ANIMATIONS = animations;
 					GeckoLibCache.MODELS = models;
-				}, gameExecutor);
+					GeckoLibCache.LOD_VARIANTS = findLodVariants(models);
+
+					Keyframe.clearInterned();
+				}, gameExecutor).thenRunAsync(BakedAssetCache::pruneUnusedEntries, backgroundExecutor);
 	}
 
-	private static CompletableFuture<Void> loadAnimations(Executor backgroundExecutor, ResourceManager resourceManager, BiConsumer<ResourceLocation, BakedAnimations> elementConsumer) {
-		return loadResources(backgroundExecutor, resourceManager, "animations", resource -> {
-			try {
-				return FileLoader.loadAnimationsFile(resource, resourceManager);
-			}
-			catch (CompoundException ex) {
-				ex.withMessage(resource.toString() + ": Error loading animation file").printStackTrace();
+	/**
+	 * Reload the cache in {@link #LAZY_LOADING lazy} mode, only indexing the available resources rather than baking them
+	 */
+	private static CompletableFuture<Void> reloadLazily(PreparationBarrier stage, ResourceManager resourceManager, Executor backgroundExecutor, Executor gameExecutor) {
+		CompletableFuture<Set<ResourceLocation>> animationsIndex = indexResources(backgroundExecutor, resourceManager, "animations");
+		CompletableFuture<Set<ResourceLocation>> modelsIndex = indexResources(backgroundExecutor, resourceManager, "geo");
 
-				return new BakedAnimations(new Object2ObjectOpenHashMap<>());
-			}
-			catch (Exception ex) {
-				throw GeckoLibConstants.exception(resource, "Error loading animation file", ex);
-			}
-		}, elementConsumer);
+		return CompletableFuture.allOf(animationsIndex, modelsIndex)
+				.thenCompose(stage::wait).thenAcceptAsync(empty -> {
+					Map<ResourceLocation, BakedGeoModel> models = new LazyBakedMap<>(modelsIndex.join(), resource -> loadModel(resource, resourceManager), backgroundExecutor);
+
+					GeckoLibCache.ANIMATIONS = new LazyBakedMap<>(animationsIndex.join(), resource -> loadAnimationsLazily(resource, resourceManager), backgroundExecutor);
+					GeckoLibCache.MODELS = models;
+					GeckoLibCache.LOD_VARIANTS = findLodVariants(models);
+				}, gameExecutor).thenRunAsync(BakedAssetCache::pruneExpiredEntries, backgroundExecutor);
+	}
+
+	/**
+	 * Hint that the given model is likely to be needed soon, so that it can be baked in the background ahead of time
+	 * <p>
+	 * Only has an effect if {@link #LAZY_LOADING lazy loading} is enabled
+	 *
+	 * @param location The resource path of the model file
+	 */
+	public static void prefetchModel(ResourceLocation location) {
+		if (MODELS instanceof LazyBakedMap<BakedGeoModel> lazyModels)
+			lazyModels.prefetch(location);
 	}
 
-	private static CompletableFuture<Void> loadModels(Executor backgroundExecutor, ResourceManager resourceManager, BiConsumer<ResourceLocation, BakedGeoModel> elementConsumer) {
-		return loadResources(backgroundExecutor, resourceManager, "geo", resource -> {
-			try {
+	/**
+	 * Hint that the given animations file is likely to be needed soon, so that it can be baked in the background ahead of time
+	 * <p>
+	 * Only has an effect if {@link #LAZY_LOADING lazy loading} is enabled
+	 *
+	 * @param location The resource path of the animations file
+	 */
+	public static void prefetchAnimations(ResourceLocation location) {
+		if (ANIMATIONS instanceof LazyBakedMap<BakedAnimations> lazyAnimations)
+			lazyAnimations.prefetch(location);
+	}
+
+	private static BakedAnimations loadAnimations(ResourceLocation resource, ResourceManager resourceManager) {
+		try {
+			return BakedAssetCache.getOrLoadAnimations(resource, resourceManager, () -> FileLoader.loadAnimationsFile(resource, resourceManager));
+		}
+		catch (CompoundException ex) {
+			ex.withMessage(resource.toString() + ": Error loading animation file").printStackTrace();
+
+			return new BakedAnimations(new Object2ObjectOpenHashMap<>());
+		}
+		catch (Exception ex) {
+			throw GeckoLibConstants.exception(resource, "Error loading animation file", ex);
+		}
+	}
+
+	/**
+	 * Load an animations file on-demand, clearing the {@link Keyframe#intern interned keyframes} afterward.<br>
+	 * Lazily-loaded files are baked at any time during the session, so keyframes are only shared within each file rather than being retained indefinitely
+	 */
+	private static BakedAnimations loadAnimationsLazily(ResourceLocation resource, ResourceManager resourceManager) {
+		try {
+			return loadAnimations(resource, resourceManager);
+		}
+		finally {
+			Keyframe.clearInterned();
+		}
+	}
+
+	private static BakedGeoModel loadModel(ResourceLocation resource, ResourceManager resourceManager) {
+		try {
+			return BakedAssetCache.getOrLoadModel(resource, resourceManager, () -> {
 				Model model = FileLoader.loadModelFile(resource, resourceManager);
 
 				switch (model.formatVersion()) {
@@ -95,11 +184,44 @@ public final class GeckoLibCache {
 				}
 
 				return BakedModelFactory.getForNamespace(resource.getNamespace()).constructGeoModel(GeometryTree.fromModel(model));
+			});
+		}
+		catch (Exception ex) {
+			throw GeckoLibConstants.exception(resource, "Error loading model file", ex);
+		}
+	}
+
+	private static Map<ResourceLocation, ResourceLocation> findLodVariants(Map<ResourceLocation, BakedGeoModel> models) {
+		Map<ResourceLocation, ResourceLocation> variants = new Object2ObjectOpenHashMap<>();
+
+		for (ResourceLocation location : models.keySet()) {
+			String path = location.getPath();
+			int suffixIndex = path.lastIndexOf(LOD_VARIANT_SUFFIX);
+
+			if (suffixIndex == -1)
+				continue;
+
+			ResourceLocation baseLocation = location.withPath(path.substring(0, suffixIndex) + path.substring(suffixIndex + LOD_VARIANT_SUFFIX.length() - 1));
+
+			if (models.containsKey(baseLocation))
+				variants.put(baseLocation, location);
+		}
+
+		return variants;
+	}
+
+	private static CompletableFuture<Set<ResourceLocation>> indexResources(Executor executor, ResourceManager resourceManager, String type) {
+		return CompletableFuture.supplyAsync(() -> {
+			Set<ResourceLocation> locations = new ObjectOpenHashSet<>();
+
+			for (ResourceLocation resource : resourceManager.listResources(type, fileName -> fileName.toString().endsWith(".json")).keySet()) {
+				// Skip known namespaces that use an "animation" or "geo" folder as well
+				if (!EXCLUDED_NAMESPACES.contains(resource.getNamespace().toLowerCase(Locale.ROOT)))
+					locations.add(resource);
 			}
-			catch (Exception ex) {
-				throw GeckoLibConstants.exception(resource, "Error loading model file", ex);
-			}
-		}, elementConsumer);
+
+			return locations;
+		}, executor);
 	}
 
 	private static <T> CompletableFuture<Void> loadResources(Executor executor, ResourceManager resourceManager,
@@ -0,0 +1,142 @@
+package software.bernie.geckolib.cache;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.GeckoLibConstants;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Read-only map of baked resources that only bakes each resource the first time it is requested, for {@link GeckoLibCache#LAZY_LOADING lazy loading}
+ * <p>
+ * The set of keys is indexed up-front, so key lookups never bake anything. Iterating over the entries or values of the map will bake every resource
+ * <p>
+ * Resources that fail to bake are logged, and treated as missing from then on
+ */
+final class LazyBakedMap<V> extends AbstractMap<ResourceLocation, V> {
+	private final Set<ResourceLocation> locations;
+	private final Function<ResourceLocation, V> baker;
+	private final Executor prefetchExecutor;
+	private final Map<ResourceLocation, CompletableFuture<V>> bakedResources = new ConcurrentHashMap<>();
+
+	LazyBakedMap(Set<ResourceLocation> locations, Function<ResourceLocation, V> baker, Executor prefetchExecutor) {
+		this.locations = Collections.unmodifiableSet(locations);
+		this.baker = baker;
+		this.prefetchExecutor = prefetchExecutor;
+	}
+
+	/**
+	 * Start baking the given resource in the background, if it exists and hasn't already been baked or started baking
+	 */
+	void prefetch(ResourceLocation location) {
+		if (this.locations.contains(location))
+			getOrStartBaking(location, this.prefetchExecutor);
+	}
+
+	@Nullable
+	@Override
+	public V get(Object key) {
+		if (!(key instanceof ResourceLocation location) || !this.locations.contains(location))
+			return null;
+
+		try {
+			return getOrStartBaking(location, null).join();
+		}
+		catch (RuntimeException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.locations.contains(key);
+	}
+
+	@Override
+	public Set<ResourceLocation> keySet() {
+		return this.locations;
+	}
+
+	@Override
+	public int size() {
+		return this.locations.size();
+	}
+
+	@Override
+	public Set<Entry<ResourceLocation, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<ResourceLocation, V>> iterator() {
+				Iterator<ResourceLocation> iterator = LazyBakedMap.this.locations.iterator();
+
+				return new Iterator<>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Entry<ResourceLocation, V> next() {
+						ResourceLocation location = iterator.next();
+
+						return new SimpleImmutableEntry<>(location, get(location));
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return LazyBakedMap.this.locations.size();
+			}
+		};
+	}
+
+	/**
+	 * Get the baking task for the given resource, starting it if it hasn't already been started
+	 *
+	 * @param location The resource to bake
+	 * @param executor The executor to bake the resource on, or null to bake it on the calling thread
+	 */
+	private CompletableFuture<V> getOrStartBaking(ResourceLocation location, @Nullable Executor executor) {
+		CompletableFuture<V> existingTask = this.bakedResources.get(location);
+
+		if (existingTask != null)
+			return existingTask;
+
+		CompletableFuture<V> task = new CompletableFuture<>();
+
+		existingTask = this.bakedResources.putIfAbsent(location, task);
+
+		if (existingTask != null)
+			return existingTask;
+
+		Runnable bake = () -> {
+			try {
+				task.complete(this.baker.apply(location));
+			}
+			catch (Throwable ex) {
+				GeckoLibConstants.LOGGER.error("Unable to bake resource: {}", location, ex);
+
+				task.completeExceptionally(ex);
+			}
+		};
+
+		if (executor == null) {
+			bake.run();
+		}
+		else {
+			executor.execute(bake);
+		}
+
+		return task;
+	}
+}
@@ -1,31 +1,212 @@
 package software.bernie.geckolib.cache.object;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
 import software.bernie.geckolib.loading.json.raw.ModelProperties;
+import software.bernie.geckolib.loading.object.HiddenFaceCuller;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Baked model object for Geckolib models
+ * <p>
+ * On construction, every bone in the model is assigned a {@link GeoBone#getIndex() bone index}, which can be used to store
+ * per-instance bone state in flat arrays rather than on the shared {@link GeoBone} instances.<br>
+ * Each bone's {@link GeoBone#getCubeExtent() extents} are also computed at this stage, for use in level-of-detail checks.
+ * Hidden faces are then {@link HiddenFaceCuller culled} if enabled, and each bone's cubes are {@link PackedCubes packed} for rendering
+ * <p>
+ * The model and its bones are not modified after construction, and a bone can only belong to a single model
  */
-public record BakedGeoModel(List<GeoBone> topLevelBones, ModelProperties properties) {
+public final class BakedGeoModel {
+	private final List<GeoBone> topLevelBones;
+	private final ModelProperties properties;
+	private final List<GeoBone> bones;
+	private final Map<String, GeoBone> boneLookup;
+	private final PackedCubes[] packedCubes;
+
 	/**
-	 * Gets a bone from this model by name
-	 * <p>
-	 * Generally not a very efficient method, should be avoided where possible
+	 * @param topLevelBones The root bones of the model
+	 * @param properties The model's properties, as defined in its json
+	 */
+	public BakedGeoModel(List<GeoBone> topLevelBones, ModelProperties properties) {
+		this(topLevelBones, properties, indexBones(topLevelBones));
+	}
+
+	private BakedGeoModel(List<GeoBone> topLevelBones, ModelProperties properties, List<GeoBone> bones) {
+		this.topLevelBones = Collections.unmodifiableList(topLevelBones);
+		this.properties = properties;
+		this.bones = Collections.unmodifiableList(bones);
+		this.boneLookup = createBoneLookup(bones);
+
+		if (HiddenFaceCuller.ENABLED)
+			HiddenFaceCuller.cullHiddenFaces(this.bones, properties.identifier());
+
+		this.packedCubes = packCubes(this.bones);
+	}
+
+	/**
+	 * @return The root bones of the model
+	 */
+	public List<GeoBone> topLevelBones() {
+		return this.topLevelBones;
+	}
+
+	/**
+	 * @return The model's properties, as defined in its json
+	 */
+	public ModelProperties properties() {
+		return this.properties;
+	}
+
+	/**
+	 * @return Every bone in the model, indexed by {@link GeoBone#getIndex()}
+	 */
+	public List<GeoBone> bones() {
+		return this.bones;
+	}
+
+	/**
+	 * @return Every bone in the model, keyed by name
+	 */
+	public Map<String, GeoBone> boneLookup() {
+		return this.boneLookup;
+	}
+
+	/**
+	 * Get the {@link PackedCubes packed} vertex data for the given bone's cubes
 	 *
-	 * @param name The name of the bone
-	 * @return An {@link Optional} containing the {@link GeoBone} if one matches, otherwise an empty Optional
+	 * @return The packed cube data, or null if the bone doesn't belong to this model or its cubes can't be packed
 	 */
-	public Optional<GeoBone> getBone(String name) {
+	@Nullable
+	public PackedCubes getPackedCubes(GeoBone bone) {
+		int index = bone.getIndex();
+
+		if (index < 0 || index >= this.packedCubes.length || this.bones.get(index) != bone)
+			return null;
+
+		return this.packedCubes[index];
+	}
+
+	/**
+	 * @return The number of bones in this model
+	 */
+	public int boneCount() {
+		return this.bones.size();
+	}
+
+	/**
+	 * Get the size (in blocks) of the diagonal of the box containing the whole model, or 0 if it has no cubes
+	 */
+	public float getExtent() {
+		float extent = 0;
+
 		for (GeoBone bone : this.topLevelBones) {
-			GeoBone childBone = searchForChildBone(bone, name);
+			extent = Math.max(extent, bone.getBoundingExtent());
+		}
 
-			if (childBone != null)
-				return Optional.of(childBone);
+		return extent;
+	}
+
+	/**
+	 * Flatten the bone hierarchy into a depth-first list, baking each bone's index and extents as we go
+	 */
+	private static List<GeoBone> indexBones(List<GeoBone> topLevelBones) {
+		List<GeoBone> bones = new ObjectArrayList<>();
+
+		for (GeoBone bone : topLevelBones) {
+			indexBone(bone, bones, emptyBounds());
+		}
+
+		return bones;
+	}
+
+	private static void indexBone(GeoBone bone, List<GeoBone> bones, float[] parentBounds) {
+		float[] bounds = emptyBounds();
+		int index = bones.size();
+
+		bones.add(bone);
+
+		for (GeoCube cube : bone.getCubes()) {
+			for (GeoQuad quad : cube.quads()) {
+				if (quad == null)
+					continue;
+
+				for (GeoVertex vertex : quad.vertices()) {
+					Vector3f position = vertex.position();
+
+					bounds[0] = Math.min(bounds[0], position.x);
+					bounds[1] = Math.min(bounds[1], position.y);
+					bounds[2] = Math.min(bounds[2], position.z);
+					bounds[3] = Math.max(bounds[3], position.x);
+					bounds[4] = Math.max(bounds[4], position.y);
+					bounds[5] = Math.max(bounds[5], position.z);
+				}
+			}
+		}
+
+		float cubeExtent = getDiagonal(bounds);
+
+		for (GeoBone child : bone.getChildBones()) {
+			indexBone(child, bones, bounds);
+		}
+
+		bone.bake(index, cubeExtent, getDiagonal(bounds));
+
+		for (int i = 0; i < 3; i++) {
+			parentBounds[i] = Math.min(parentBounds[i], bounds[i]);
+			parentBounds[i + 3] = Math.max(parentBounds[i + 3], bounds[i + 3]);
+		}
+	}
+
+	private static PackedCubes[] packCubes(List<GeoBone> bones) {
+		PackedCubes[] packedCubes = new PackedCubes[bones.size()];
+
+		for (int i = 0; i < packedCubes.length; i++) {
+			packedCubes[i] = PackedCubes.pack(bones.get(i).getCubes());
 		}
 
-		return Optional.empty();
+		return packedCubes;
+	}
+
+	private static float[] emptyBounds() {
+		return new float[] {Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+	}
+
+	private static float getDiagonal(float[] bounds) {
+		if (bounds[0] > bounds[3])
+			return 0;
+
+		float x = bounds[3] - bounds[0];
+		float y = bounds[4] - bounds[1];
+		float z = bounds[5] - bounds[2];
+
+		return (float)Math.sqrt(x * x + y * y + z * z);
+	}
+
+	private static Map<String, GeoBone> createBoneLookup(List<GeoBone> bones) {
+		Map<String, GeoBone> lookup = new Object2ObjectOpenHashMap<>(bones.size());
+
+		// Keep the first bone for duplicate names, matching the depth-first search order of the bone hierarchy
+		for (GeoBone bone : bones) {
+			lookup.putIfAbsent(bone.getName(), bone);
+		}
+
+		return Collections.unmodifiableMap(lookup);
+	}
+
+	/**
+	 * Gets a bone from this model by name
+	 * <p>
+	 * @param name The name of the bone
+	 * @return An {@link Optional} containing the {@link GeoBone} if one matches, otherwise an empty Optional
+	 */
+	public Optional<GeoBone> getBone(String name) {
+		return Optional.ofNullable(this.boneLookup.get(name));
 	}
 
 	/**
@@ -0,0 +1,142 @@
+package software.bernie.geckolib.cache.object;
+
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.List;
+
+/**
+ * Contiguous packed copy of the vertex data of a {@link GeoBone}'s {@link GeoCube cubes}, for linear iteration while rendering
+ * <p>
+ * Each quad is stored as its normal, followed by its four vertices' position and uv coordinates:
+ * <pre>{@code nx, ny, nz, (x, y, z, u, v) * 4}</pre>
+ * Positions and normals are pre-transformed into bone space, with each cube's rotation around its pivot already applied,
+ * so that no per-cube transforms are needed at render time
+ * <p>
+ * This is built once for each bone when its {@link BakedGeoModel} is constructed, and retrieved via {@link BakedGeoModel#getPackedCubes}
+ * <p>
+ * The {@link GeoCube} and {@link GeoQuad} objects remain the source of truth for the model, this is only a flattened copy of them
+ *
+ * @param cubes The cubes this data was packed from, in order
+ * @param quadOffsets The index of the first quad of each cube, with a trailing entry for the total quad count
+ * @param vertexData The packed quad data
+ */
+public record PackedCubes(GeoCube[] cubes, int[] quadOffsets, float[] vertexData) {
+	/**
+	 * Whether packed cube data should be used for rendering, where possible
+	 */
+	public static boolean ENABLED = true;
+	public static final int VERTEX_STRIDE = 5;
+	public static final int QUAD_STRIDE = 3 + VERTEX_STRIDE * 4;
+
+	/**
+	 * @return The number of cubes in this packed data
+	 */
+	public int cubeCount() {
+		return this.cubes.length;
+	}
+
+	/**
+	 * @return The number of non-null quads in this packed data
+	 */
+	public int quadCount() {
+		return this.quadOffsets[this.cubes.length];
+	}
+
+	/**
+	 * Pack the given cubes into a contiguous array, applying each cube's rotation to its vertices
+	 * <p>
+	 * Called for each bone when a {@link BakedGeoModel} is constructed
+	 *
+	 * @return The packed cube data, or null if any of the cubes' quads don't have exactly four vertices
+	 */
+	@Nullable
+	public static PackedCubes pack(List<GeoCube> cubes) {
+		GeoCube[] cubeArray = cubes.toArray(new GeoCube[0]);
+		int[] quadOffsets = new int[cubeArray.length + 1];
+		int quadCount = 0;
+
+		for (int i = 0; i < cubeArray.length; i++) {
+			quadOffsets[i] = quadCount;
+
+			for (GeoQuad quad : cubeArray[i].quads()) {
+				if (quad == null)
+					continue;
+
+				if (quad.vertices().length != 4)
+					return null;
+
+				quadCount++;
+			}
+		}
+
+		quadOffsets[cubeArray.length] = quadCount;
+		float[] vertexData = new float[quadCount * QUAD_STRIDE];
+		int index = 0;
+
+		Matrix4f cubeTransform = new Matrix4f();
+		Matrix3f cubeRotation = new Matrix3f();
+		Vector3f transformed = new Vector3f();
+
+		for (GeoCube cube : cubeArray) {
+			boolean rotated = getCubeTransform(cube, cubeTransform);
+
+			if (rotated)
+				cubeTransform.get3x3(cubeRotation);
+
+			for (GeoQuad quad : cube.quads()) {
+				if (quad == null)
+					continue;
+
+				transformed.set(quad.normal());
+
+				if (rotated)
+					cubeRotation.transform(transformed);
+
+				vertexData[index++] = transformed.x();
+				vertexData[index++] = transformed.y();
+				vertexData[index++] = transformed.z();
+
+				for (GeoVertex vertex : quad.vertices()) {
+					transformed.set(vertex.position());
+
+					if (rotated)
+						cubeTransform.transformPosition(transformed);
+
+					vertexData[index++] = transformed.x();
+					vertexData[index++] = transformed.y();
+					vertexData[index++] = transformed.z();
+					vertexData[index++] = vertex.texU();
+					vertexData[index++] = vertex.texV();
+				}
+			}
+		}
+
+		return new PackedCubes(cubeArray, quadOffsets, vertexData);
+	}
+
+	/**
+	 * Compute the transform that rotates the given cube around its pivot point, matching the transforms applied in {@code GeoRenderer#renderCube}
+	 *
+	 * @return Whether the cube is rotated at all. If not, the transform is left unchanged and shouldn't be used
+	 */
+	private static boolean getCubeTransform(GeoCube cube, Matrix4f transform) {
+		Vec3 rotation = cube.rotation();
+
+		if (rotation.x() == 0 && rotation.y() == 0 && rotation.z() == 0)
+			return false;
+
+		Vec3 pivot = cube.pivot();
+
+		transform.translation((float)pivot.x() / 16f, (float)pivot.y() / 16f, (float)pivot.z() / 16f)
+				.rotateZ((float)rotation.z())
+				.rotateY((float)rotation.y())
+				.rotateX((float)rotation.x())
+				.translate((float)-pivot.x() / 16f, (float)-pivot.y() / 16f, (float)-pivot.z() / 16f);
+
+		return true;
+	}
+}
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.constant.dataticket.DataTicket;
 import software.bernie.geckolib.model.data.EntityModelData;
+import software.bernie.geckolib.renderer.BoneLod;
 import software.bernie.geckolib.constant.dataticket.SerializableDataTicket;
 import software.bernie.geckolib.util.GeckoLibUtil;
 
@@ -33,6 +34,8 @@ public final class DataTickets {
 	public static final DataTicket<EntityModelData> ENTITY_MODEL_DATA = new DataTicket<>("entity_model_data", EntityModelData.class);
 	public static final DataTicket<Double> TICK = new DataTicket<>("tick", Double.class);
 	public static final DataTicket<ItemDisplayContext> ITEM_RENDER_PERSPECTIVE = new DataTicket<>("item_render_perspective", ItemDisplayContext.class);
+	public static final DataTicket<BoneLod> BONE_LOD = new DataTicket<>("bone_lod", BoneLod.class);
+	public static final DataTicket<Double> CAMERA_DISTANCE = new DataTicket<>("camera_distance", Double.class);
 	
 	// Builtin serializable tickets
 	// These are not used anywhere by default, but are provided as examples and for ease of use
@@ -1,6 +1,8 @@
 package software.bernie.geckolib.loading;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.GsonHelper;
@@ -9,11 +11,15 @@ import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.animation.Animation;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.loading.json.raw.Model;
+import software.bernie.geckolib.loading.json.typeadapter.BakedAnimationsAdapter;
 import software.bernie.geckolib.loading.json.typeadapter.KeyFramesAdapter;
 import software.bernie.geckolib.loading.object.BakedAnimations;
 
+import java.io.BufferedReader;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 
 /**
@@ -22,6 +28,8 @@ import java.nio.charset.Charset;
 public final class FileLoader {
 	/**
 	 * Load up and deserialize an animation json file to its respective {@link Animation} components
+	 * <p>
+	 * The file is streamed from the resource, only holding one animation's json in memory at a time
 	 *
 	 * @param location The resource path of the animations file
 	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
@@ -33,7 +41,30 @@ public final class FileLoader {
 		if (!location.getPath().endsWith(".animation.json"))
 			GeckoLibConstants.LOGGER.warn("Found animation file with improper file name format; animation files should end in .animation.json: '" + location + "'");
 
-		return KeyFramesAdapter.GEO_GSON.fromJson(GsonHelper.getAsJsonObject(loadFile(location, manager), "animations"), BakedAnimations.class);
+		try (JsonReader reader = openJsonReader(location, manager)) {
+			BakedAnimations animations = null;
+
+			reader.beginObject();
+
+			while (reader.hasNext()) {
+				if (reader.nextName().equals("animations")) {
+					animations = BakedAnimationsAdapter.read(reader);
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+
+			reader.endObject();
+
+			if (animations == null)
+				throw new JsonParseException("Missing animations, expected to find a JsonObject");
+
+			return animations;
+		}
+		catch (IOException ex) {
+			throw new JsonParseException("Unable to read animation file: " + location, ex);
+		}
 	}
 
 	/**
@@ -49,7 +80,17 @@ public final class FileLoader {
 		if (!location.getPath().endsWith(".geo.json"))
 			GeckoLibConstants.LOGGER.warn("Found geo model file with improper file name format; geo model files should end in .geo.json: '" + location + "'");
 
-		return KeyFramesAdapter.GEO_GSON.fromJson(loadFile(location, manager), Model.class);
+		try (JsonReader reader = openJsonReader(location, manager)) {
+			Model model = KeyFramesAdapter.GEO_GSON.fromJson(reader, Model.class);
+
+			if (model == null)
+				throw new JsonParseException("Empty geo model file: " + location);
+
+			return model;
+		}
+		catch (IOException ex) {
+			throw new JsonParseException("Unable to read geo model file: " + location, ex);
+		}
 	}
 
 	/**
@@ -62,6 +103,27 @@ public final class FileLoader {
 		return GsonHelper.fromJson(KeyFramesAdapter.GEO_GSON, getFileContents(location, manager), JsonObject.class);
 	}
 
+	/**
+	 * Open a lenient {@link JsonReader} for streaming the contents of a given json file
+	 *
+	 * @param location The resource path of the json file
+	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
+	 */
+	public static JsonReader openJsonReader(ResourceLocation location, ResourceManager manager) {
+		try {
+			JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(manager.getResourceOrThrow(location).open(), Charset.defaultCharset())));
+
+			reader.setLenient(true);
+
+			return reader;
+		}
+		catch (Exception e) {
+			GeckoLibConstants.LOGGER.error("Couldn't load " + location, e);
+
+			throw new RuntimeException(new FileNotFoundException(location.toString()));
+		}
+	}
+
 	/**
 	 * Read a text-based file into memory in the form of a single string
 	 *
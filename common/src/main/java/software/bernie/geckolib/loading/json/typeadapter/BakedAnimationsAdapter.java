@@ -1,6 +1,7 @@
 package software.bernie.geckolib.loading.json.typeadapter;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
 import com.mojang.datafixers.util.Pair;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
@@ -11,7 +12,9 @@ import software.bernie.geckolib.animation.Animation;
 import software.bernie.geckolib.animation.EasingType;
 import software.bernie.geckolib.animation.keyframe.BoneAnimation;
 import software.bernie.geckolib.animation.keyframe.Keyframe;
+import software.bernie.geckolib.animation.keyframe.KeyframeCompressor;
 import software.bernie.geckolib.animation.keyframe.KeyframeStack;
+import software.bernie.geckolib.animation.keyframe.SampledTrack;
 import software.bernie.geckolib.loading.math.MathParser;
 import software.bernie.geckolib.loading.math.MathValue;
 import software.bernie.geckolib.loading.math.value.Constant;
@@ -19,6 +22,7 @@ import software.bernie.geckolib.loading.object.BakedAnimations;
 import software.bernie.geckolib.object.CompoundException;
 import software.bernie.geckolib.util.JsonUtil;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
@@ -28,35 +32,64 @@ import java.util.Map;
  * Acts as the deserialization interface for {@code BakedAnimations}
  */
 public  class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations> {
+	private static final KeyframeStack<Keyframe<MathValue>> EMPTY_KEYFRAMES = new KeyframeStack<>(List.of(), List.of(), List.of());
+
 	@Override
 	public BakedAnimations deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws RuntimeException {
 		JsonObject obj = json.getAsJsonObject();
 		Map<String, Animation> animations = new Object2ObjectOpenHashMap<>(obj.size());
 
 		for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
-			try {
-				animations.put(entry.getKey(), bakeAnimation(entry.getKey(), entry.getValue().getAsJsonObject(), context));
-			}
-			catch (Exception ex) {
-				if (ex instanceof CompoundException compoundEx) {
-					GeckoLibConstants.LOGGER.error(compoundEx.withMessage("Unable to parse animation: " + entry.getKey()).getLocalizedMessage());
-				}
-				else {
-					GeckoLibConstants.LOGGER.error("Unable to parse animation: " + entry.getKey());
-				}
+			bakeAnimationInto(animations, entry.getKey(), entry.getValue());
+		}
 
-				ex.printStackTrace();
-			}
+		return new BakedAnimations(animations);
+	}
+
+	/**
+	 * Stream-read the {@code animations} object of an animation json file into a {@link BakedAnimations} instance
+	 * <p>
+	 * Each animation is read into memory and baked one at a time, rather than reading the entire file into memory first
+	 *
+	 * @param reader The reader, positioned at the start of the {@code animations} object
+	 */
+	public static BakedAnimations read(JsonReader reader) throws IOException {
+		Map<String, Animation> animations = new Object2ObjectOpenHashMap<>();
+
+		reader.beginObject();
+
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			bakeAnimationInto(animations, name, JsonParser.parseReader(reader));
 		}
 
+		reader.endObject();
+
 		return new BakedAnimations(animations);
 	}
 
-	private Animation bakeAnimation(String name, JsonObject animationObj, JsonDeserializationContext context) throws CompoundException {
+	private static void bakeAnimationInto(Map<String, Animation> animations, String name, JsonElement element) {
+		try {
+			animations.put(name, bakeAnimation(name, element.getAsJsonObject()));
+		}
+		catch (Exception ex) {
+			if (ex instanceof CompoundException compoundEx) {
+				GeckoLibConstants.LOGGER.error(compoundEx.withMessage("Unable to parse animation: " + name).getLocalizedMessage());
+			}
+			else {
+				GeckoLibConstants.LOGGER.error("Unable to parse animation: " + name);
+			}
+
+			ex.printStackTrace();
+		}
+	}
+
+	private static Animation bakeAnimation(String name, JsonObject animationObj) throws CompoundException {
 		double length = animationObj.has("animation_length") ? GsonHelper.getAsDouble(animationObj, "animation_length") * 20d : -1;
 		Animation.LoopType loopType = Animation.LoopType.fromJson(animationObj.get("loop"));
 		BoneAnimation[] boneAnimations = bakeBoneAnimations(GsonHelper.getAsJsonObject(animationObj, "bones", new JsonObject()));
-		Animation.Keyframes keyframes = context.deserialize(animationObj, Animation.Keyframes.class);
+		Animation.Keyframes keyframes = KeyFramesAdapter.GEO_GSON.fromJson(animationObj, Animation.Keyframes.class);
 
 		if (length == -1)
 			length = calculateAnimationLength(boneAnimations);
@@ -64,7 +97,7 @@ public  class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations
 		return new Animation(name, length, loopType, boneAnimations, keyframes);
 	}
 
-	private BoneAnimation[] bakeBoneAnimations(JsonObject bonesObj) throws CompoundException {
+	private static BoneAnimation[] bakeBoneAnimations(JsonObject bonesObj) throws CompoundException {
 		BoneAnimation[] animations = new BoneAnimation[bonesObj.size()];
 		int index = 0;
 
@@ -135,13 +168,13 @@ public  class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations
 		throw new JsonParseException("Invalid keyframe data - expected array, found " + keyframe);
 	}
 
-	private KeyframeStack<Keyframe<MathValue>> buildKeyframeStack(List<Pair<String, JsonElement>> entries, boolean isForRotation) throws CompoundException {
+	private static KeyframeStack<Keyframe<MathValue>> buildKeyframeStack(List<Pair<String, JsonElement>> entries, boolean isForRotation) throws CompoundException {
 		if (entries.isEmpty())
-			return new KeyframeStack<>();
+			return EMPTY_KEYFRAMES;
 
-		List<Keyframe<MathValue>> xFrames = new ObjectArrayList<>();
-		List<Keyframe<MathValue>> yFrames = new ObjectArrayList<>();
-		List<Keyframe<MathValue>> zFrames = new ObjectArrayList<>();
+		List<Keyframe<MathValue>> xFrames = new ObjectArrayList<>(entries.size());
+		List<Keyframe<MathValue>> yFrames = new ObjectArrayList<>(entries.size());
+		List<Keyframe<MathValue>> zFrames = new ObjectArrayList<>(entries.size());
 
 		MathValue xPrev = null;
 		MathValue yPrev = null;
@@ -163,15 +196,15 @@ public  class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations
 			MathValue rawXValue = MathParser.parseJson(keyFrameVector.get(0));
 			MathValue rawYValue = MathParser.parseJson(keyFrameVector.get(1));
 			MathValue rawZValue = MathParser.parseJson(keyFrameVector.get(2));
-			MathValue xValue = isForRotation && rawXValue instanceof Constant ? new Constant(Math.toRadians(-rawXValue.get())) : rawXValue;
-			MathValue yValue = isForRotation && rawYValue instanceof Constant ? new Constant(Math.toRadians(-rawYValue.get())) : rawYValue;
-			MathValue zValue = isForRotation && rawZValue instanceof Constant ? new Constant(Math.toRadians(rawZValue.get())) : rawZValue;
+			MathValue xValue = isForRotation && rawXValue instanceof Constant ? Constant.of(Math.toRadians(-rawXValue.get())) : rawXValue;
+			MathValue yValue = isForRotation && rawYValue instanceof Constant ? Constant.of(Math.toRadians(-rawYValue.get())) : rawYValue;
+			MathValue zValue = isForRotation && rawZValue instanceof Constant ? Constant.of(Math.toRadians(rawZValue.get())) : rawZValue;
 
 			JsonObject entryObj = element instanceof JsonObject obj ? obj : null;
 			EasingType easingType = entryObj != null && entryObj.has("easing") ? EasingType.fromJson(entryObj.get("easing")) : EasingType.LINEAR;
 			List<MathValue> easingArgs = entryObj != null && entryObj.has("easingArgs") ?
-					JsonUtil.jsonArrayToList(GsonHelper.getAsJsonArray(entryObj, "easingArgs"), ele -> new Constant(ele.getAsDouble())) :
-					new ObjectArrayList<>();
+					JsonUtil.jsonArrayToList(GsonHelper.getAsJsonArray(entryObj, "easingArgs"), ele -> Constant.of(ele.getAsDouble())) :
+					List.of();
 
 			xFrames.add(new Keyframe<>(timeDelta * 20, prevEntry == null ? xValue : xPrev, xValue, easingType, easingArgs));
 			yFrames.add(new Keyframe<>(timeDelta * 20, prevEntry == null ? yValue : yPrev, yValue, easingType, easingArgs));
@@ -183,7 +216,27 @@ public  class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations
 			prevEntry = entry;
 		}
 
-		return new KeyframeStack<>(xFrames, yFrames, zFrames);
+		KeyframeStack<Keyframe<MathValue>> stack = new KeyframeStack<>(xFrames, yFrames, zFrames);
+
+		if (KeyframeCompressor.ENABLED)
+			stack = KeyframeCompressor.compress(stack, isForRotation ? KeyframeCompressor.ANGULAR_TOLERANCE : KeyframeCompressor.POSITIONAL_TOLERANCE);
+
+		if (Keyframe.INTERN) {
+			internKeyframes(stack.xKeyframes());
+			internKeyframes(stack.yKeyframes());
+			internKeyframes(stack.zKeyframes());
+		}
+
+		return SampledTrack.ENABLED ? stack.withSamples(SampledTrack.sample(stack)) : stack;
+	}
+
+	/**
+	 * Replace each keyframe in the given list with its {@link Keyframe#intern interned} instance
+	 */
+	private static void internKeyframes(List<Keyframe<MathValue>> keyframes) {
+		for (int i = 0; i < keyframes.size(); i++) {
+			keyframes.set(i, Keyframe.intern(keyframes.get(i)));
+		}
 	}
 
 	private static double calculateAnimationLength(BoneAnimation[] boneAnimations) {
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleSupplier;
 import java.util.function.Supplier;
@@ -42,6 +43,11 @@ import java.util.regex.Pattern;
  * Overhauled by Tslat for GeckoLib and redesigned specifically for <a href="https://learn.microsoft.com/en-us/minecraft/creator/reference/content/molangreference/examples/molangconcepts/molangintroduction?view=minecraft-bedrock-stable">Molang</a> use
  */
 public class MathParser {
+    /**
+     * Whether parsed expressions should be {@link #optimise optimised} before use
+     */
+    public static boolean OPTIMISE_EXPRESSIONS = true;
+
     private static final Pattern EXPRESSION_FORMAT = Pattern.compile("^[\\w\\s_+-/*%^&|<>=!?:.,()]+$");
     private static final Pattern WHITESPACE = Pattern.compile("\\s");
     private static final Pattern NUMERIC = Pattern.compile("^-?\\d+(\\.\\d+)?$");
@@ -151,18 +157,18 @@ public class MathParser {
             throw new CompoundException("Bad formatting on Molang expression, expected single value, received: " + element.getClass().getSimpleName());
 
         if (primitive.isNumber())
-            return new Constant(primitive.getAsDouble());
+            return Constant.of(primitive.getAsDouble());
 
         if (primitive.isString()) {
             String value = primitive.getAsString();
 
             if (VALID_DOUBLE.matcher(value).matches())
-                return new Constant(Double.parseDouble(value));
+                return Constant.of(Double.parseDouble(value));
 
             return compileMolang(value);
         }
 
-        return new Constant(0);
+        return Constant.of(0);
     }
 
     /**
@@ -194,10 +200,17 @@ public class MathParser {
                     break;
             }
 
-            return new CompoundValue(subValues.toArray(new MathValue[0]));
+            return compileIfEnabled(expression, new CompoundValue(subValues.toArray(new MathValue[0])));
         }
 
-        return compileExpression(expression);
+        return compileIfEnabled(expression, compileExpression(expression));
+    }
+
+    /**
+     * Compile the parsed expression to bytecode if the {@link MolangCompiler} is enabled
+     */
+    private static MathValue compileIfEnabled(String expression, MathValue value) {
+        return MolangCompiler.ENABLED ? MolangCompiler.compile(expression, value) : value;
     }
 
     /**
@@ -205,13 +218,203 @@ public class MathParser {
      */
     public static MathValue compileExpression(String expression) {
         try {
-            return parseSymbols(compileSymbols(decomposeExpression(expression)));
+            MathValue value = parseSymbols(compileSymbols(decomposeExpression(expression)));
+
+            if (!OPTIMISE_EXPRESSIONS)
+                return value;
+
+            MathValue optimised = optimise(value);
+
+            if (GeckoLibConstants.LOGGER.isDebugEnabled())
+                GeckoLibConstants.LOGGER.debug("Optimised expression '{}' from {} to {} nodes", expression, countNodes(value), countNodes(optimised));
+
+            return optimised;
         }
         catch (CompoundException ex) {
             throw ex.withMessage("Failed to parse expression '" + expression + "'");
         }
     }
 
+    /**
+     * Simplify a parsed {@link MathValue} tree, without changing the value it produces
+     * <p>
+     * The following reductions are made:
+     * <ul>
+     *     <li>Non-mutable sub-expressions, and the built-in {@code PI} constant, are folded into {@link Constant Constants}</li>
+     *     <li>{@link Group Groups} are collapsed into their contents</li>
+     *     <li>Identity operations ({@code x + 0}, {@code x - 0}, {@code x * 1}, {@code x / 1}) are reduced to their operand</li>
+     *     <li>{@link Ternary Ternaries} with a constant condition are reduced to the selected branch</li>
+     *     <li>Double {@link Negative negation} is removed</li>
+     * </ul>
+     *
+     * @param value The parsed expression tree
+     * @return The simplified expression tree, or the provided value if it couldn't be simplified
+     */
+    public static MathValue optimise(MathValue value) {
+        if (value instanceof Constant)
+            return value;
+
+        if (!value.isMutable())
+            return Constant.of(value.get());
+
+        return switch (value) {
+            case Variable variable when variable.name().equals("pi") -> Constant.of(variable.get());
+            case Group group -> optimise(group.contents());
+            case Negative negative -> {
+                MathValue contents = optimise(negative.value());
+
+                yield contents instanceof Negative inner ? inner.value() : new Negative(contents);
+            }
+            case BooleanNegate negate -> optimiseIfChanged(new BooleanNegate(optimise(negate.value())));
+            case Ternary ternary -> {
+                MathValue condition = optimise(ternary.condition());
+
+                if (condition instanceof Constant constant)
+                    yield optimise(constant.value() != 0 ? ternary.trueValue() : ternary.falseValue());
+
+                yield optimiseIfChanged(new Ternary(condition, optimise(ternary.trueValue()), optimise(ternary.falseValue())));
+            }
+            case Calculation calculation -> optimiseCalculation(calculation);
+            case VariableAssignment assignment -> new VariableAssignment(assignment.variable(), optimise(assignment.value()));
+            case CompoundValue compound -> {
+                MathValue[] subValues = new MathValue[compound.subValues().length];
+
+                for (int i = 0; i < subValues.length; i++) {
+                    subValues[i] = optimise(compound.subValues()[i]);
+                }
+
+                yield new CompoundValue(subValues);
+            }
+            case MathFunction function -> optimiseFunction(function);
+            default -> value;
+        };
+    }
+
+    /**
+     * Fold a rebuilt value into a {@link Constant} if optimising its contents has made it non-mutable
+     */
+    private static MathValue optimiseIfChanged(MathValue value) {
+        return value.isMutable() ? value : Constant.of(value.get());
+    }
+
+    private static MathValue optimiseCalculation(Calculation calculation) {
+        final Operator operator = calculation.operator();
+        final MathValue argA = optimise(calculation.argA());
+        final MathValue argB = optimise(calculation.argB());
+
+        if (argB instanceof Constant constant) {
+            if (constant.value() == 0 && (operator == Operator.ADD || operator == Operator.SUB))
+                return argA;
+
+            if (constant.value() == 1 && (operator == Operator.MUL || operator == Operator.DIV))
+                return argA;
+        }
+
+        if (argA instanceof Constant constant) {
+            if (constant.value() == 0 && operator == Operator.ADD)
+                return argB;
+
+            if (constant.value() == 1 && operator == Operator.MUL)
+                return argB;
+        }
+
+        return optimiseIfChanged(new Calculation(operator, argA, argB));
+    }
+
+    private static MathValue optimiseFunction(MathFunction function) {
+        final MathValue[] args = function.getArgs();
+        final MathValue[] optimisedArgs = new MathValue[args.length];
+        boolean changed = false;
+
+        for (int i = 0; i < args.length; i++) {
+            optimisedArgs[i] = optimise(args[i]);
+            changed |= optimisedArgs[i] != args[i];
+        }
+
+        if (!changed)
+            return function;
+
+        MathFunction rebuilt = buildFunction(function.getName(), optimisedArgs);
+
+        if (rebuilt == null || rebuilt.getClass() != function.getClass())
+            return function;
+
+        return optimiseIfChanged(rebuilt);
+    }
+
+    /**
+     * Count the number of nodes in a {@link MathValue} tree, for diagnosing the complexity of an expression
+     */
+    public static int countNodes(MathValue value) {
+        return switch (value) {
+            case Group group -> 1 + countNodes(group.contents());
+            case Negative negative -> 1 + countNodes(negative.value());
+            case BooleanNegate negate -> 1 + countNodes(negate.value());
+            case Ternary ternary -> 1 + countNodes(ternary.condition()) + countNodes(ternary.trueValue()) + countNodes(ternary.falseValue());
+            case Calculation calculation -> 1 + countNodes(calculation.argA()) + countNodes(calculation.argB());
+            case VariableAssignment assignment -> 2 + countNodes(assignment.value());
+            case CompoundValue compound -> {
+                int count = 1;
+
+                for (MathValue subValue : compound.subValues()) {
+                    count += countNodes(subValue);
+                }
+
+                yield count;
+            }
+            case MathFunction function -> {
+                int count = 1;
+
+                for (MathValue arg : function.getArgs()) {
+                    count += countNodes(arg);
+                }
+
+                yield count;
+            }
+            default -> 1;
+        };
+    }
+
+    /**
+     * Collect the names of all {@link Variable Variables} referenced by a {@link MathValue} tree, including any that are assigned to
+     *
+     * @param value The expression tree to search
+     * @param variables The set to add the found variable names to
+     */
+    public static void collectVariables(MathValue value, Set<String> variables) {
+        switch (value) {
+            case Variable variable -> variables.add(variable.name());
+            case MolangCompiler.CompiledValue compiled -> collectVariables(compiled.getSource(), variables);
+            case Group group -> collectVariables(group.contents(), variables);
+            case Negative negative -> collectVariables(negative.value(), variables);
+            case BooleanNegate negate -> collectVariables(negate.value(), variables);
+            case Ternary ternary -> {
+                collectVariables(ternary.condition(), variables);
+                collectVariables(ternary.trueValue(), variables);
+                collectVariables(ternary.falseValue(), variables);
+            }
+            case Calculation calculation -> {
+                collectVariables(calculation.argA(), variables);
+                collectVariables(calculation.argB(), variables);
+            }
+            case VariableAssignment assignment -> {
+                variables.add(assignment.variable().name());
+                collectVariables(assignment.value(), variables);
+            }
+            case CompoundValue compound -> {
+                for (MathValue subValue : compound.subValues()) {
+                    collectVariables(subValue, variables);
+                }
+            }
+            case MathFunction function -> {
+                for (MathValue arg : function.getArgs()) {
+                    collectVariables(arg, variables);
+                }
+            }
+            default -> {}
+        }
+    }
+
     /**
      * Breakdown an expression into component characters, sanity-checking for invalid characters, stripping out whitespace, and pre-checking group parenthesis balancing
      */
@@ -415,7 +618,7 @@ public class MathParser {
                 return new BooleanNegate(compileSingleValue(Either.left(string.substring(1))));
 
             if (isNumeric(string))
-                return new Constant(Double.parseDouble(string));
+                return Constant.of(Double.parseDouble(string));
 
             if (isLikelyVariable(string)) {
                 if (string.startsWith("-"))
@@ -0,0 +1,426 @@
+package software.bernie.geckolib.loading.math;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.ApiStatus;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.loading.math.value.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Optional backend for {@link MathParser} that compiles a parsed {@link MathValue} tree into a single hidden class, instead of
+ * evaluating it by walking the tree each time it is used
+ * <p>
+ * The generated class evaluates the whole expression as straight-line bytecode, which the JIT is able to inline in full:
+ * <ul>
+ *     <li>Non-mutable sub-expressions are folded into constants</li>
+ *     <li>{@link Calculation Calculations}, {@link Ternary Ternaries} and negations are emitted as their equivalent bytecode instructions</li>
+ *     <li>{@link Variable Variables} are read directly from final fields of the generated class, sharing a single {@link MolangContext} lookup</li>
+ *     <li>Anything else (such as {@link software.bernie.geckolib.loading.math.function.MathFunction MathFunctions}) is held in a final field and called directly</li>
+ * </ul>
+ * Compiled expressions are cached by their source string, and the cache is cleared on resource reload.
+ * <p>
+ * <b><u>This is disabled by default</u></b>. If an expression fails to compile, the interpreted tree is used instead
+ */
+public final class MolangCompiler {
+    /**
+     * Whether parsed Molang expressions should be compiled to bytecode
+     */
+    public static boolean ENABLED = false;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final String COMPILED_NAME = Type.getInternalName(MolangCompiler.class) + "$Expression";
+    private static final String BASE_NAME = Type.getInternalName(CompiledValue.class);
+    private static final String MATH_VALUE = Type.getInternalName(MathValue.class);
+    private static final String VARIABLE = Type.getInternalName(Variable.class);
+    private static final String CONTEXT = Type.getInternalName(MolangContext.class);
+    private static final String CONSTRUCTOR_DESC = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(MathValue.class), Type.getType(MathValue[].class));
+    private static final Map<String, MathValue> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Compile the given parsed expression, or retrieve it from the cache if it has already been compiled
+     *
+     * @param expression The source expression, used as the cache key
+     * @param value The parsed expression tree
+     * @return The compiled value, or the provided value if it doesn't benefit from compiling or can't be compiled
+     */
+    public static MathValue compile(String expression, MathValue value) {
+        if (value instanceof Constant || value instanceof Variable)
+            return value;
+
+        if (!value.isMutable())
+            return new Constant(value.get());
+
+        return CACHE.computeIfAbsent(expression, key -> {
+            try {
+                return new Generator(value).define();
+            }
+            catch (Throwable ex) {
+                GeckoLibConstants.LOGGER.error("Failed to compile Molang expression '" + expression + "', falling back to interpreted evaluation", ex);
+
+                return value;
+            }
+        });
+    }
+
+    /**
+     * Clear the cache of compiled expressions
+     * <p>
+     * Called automatically when resources are reloaded
+     */
+    @ApiStatus.Internal
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Base class for all compiled expressions, retaining the source tree for {@link #toString()} and {@link #isMutable()}
+     */
+    public abstract static class CompiledValue implements MathValue {
+        protected final MathValue source;
+
+        protected CompiledValue(MathValue source) {
+            this.source = source;
+        }
+
+        /**
+         * @return The interpreted expression tree this value was compiled from
+         */
+        public MathValue getSource() {
+            return this.source;
+        }
+
+        @Override
+        public boolean isMutable() {
+            return this.source.isMutable();
+        }
+
+        @Override
+        public String toString() {
+            return this.source.toString();
+        }
+    }
+
+    /**
+     * Single-use bytecode generator for one expression tree
+     */
+    private static class Generator {
+        private final MathValue source;
+        private final List<MathValue> fields = new ObjectArrayList<>();
+        private final List<String> fieldTypes = new ObjectArrayList<>();
+        private MethodVisitor method;
+        private int nextLocal = 2;
+
+        private Generator(MathValue source) {
+            this.source = source;
+        }
+
+        private MathValue define() throws Throwable {
+            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+                @Override
+                protected String getCommonSuperClass(String type1, String type2) {
+                    return "java/lang/Object";
+                }
+            };
+
+            writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, COMPILED_NAME, null, BASE_NAME, null);
+
+            this.method = writer.visitMethod(Opcodes.ACC_PUBLIC, "get", "()D", null, null);
+            this.method.visitCode();
+
+            if (usesContext(this.source)) {
+                this.method.visitMethodInsn(Opcodes.INVOKESTATIC, CONTEXT, "get", "()L" + CONTEXT + ";", false);
+                this.method.visitVarInsn(Opcodes.ASTORE, 1);
+            }
+
+            emit(this.source);
+            this.method.visitInsn(Opcodes.DRETURN);
+            this.method.visitMaxs(0, 0);
+            this.method.visitEnd();
+
+            for (int i = 0; i < this.fields.size(); i++) {
+                writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "v" + i, "L" + this.fieldTypes.get(i) + ";", null, null).visitEnd();
+            }
+
+            writeConstructor(writer);
+            writer.visitEnd();
+
+            MethodHandles.Lookup lookup = LOOKUP.defineHiddenClass(writer.toByteArray(), true);
+
+            return (MathValue)lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, MathValue.class, MathValue[].class))
+                    .invoke(this.source, this.fields.toArray(new MathValue[0]));
+        }
+
+        private void writeConstructor(ClassWriter writer) {
+            MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", CONSTRUCTOR_DESC, null, null);
+
+            constructor.visitCode();
+            constructor.visitVarInsn(Opcodes.ALOAD, 0);
+            constructor.visitVarInsn(Opcodes.ALOAD, 1);
+            constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, BASE_NAME, "<init>", "(L" + MATH_VALUE + ";)V", false);
+
+            for (int i = 0; i < this.fields.size(); i++) {
+                constructor.visitVarInsn(Opcodes.ALOAD, 0);
+                constructor.visitVarInsn(Opcodes.ALOAD, 2);
+                constructor.visitLdcInsn(i);
+                constructor.visitInsn(Opcodes.AALOAD);
+                constructor.visitTypeInsn(Opcodes.CHECKCAST, this.fieldTypes.get(i));
+                constructor.visitFieldInsn(Opcodes.PUTFIELD, COMPILED_NAME, "v" + i, "L" + this.fieldTypes.get(i) + ";");
+            }
+
+            constructor.visitInsn(Opcodes.RETURN);
+            constructor.visitMaxs(0, 0);
+            constructor.visitEnd();
+        }
+
+        /**
+         * Emit the instructions to evaluate the given value, leaving its result on the stack as a double
+         */
+        private void emit(MathValue value) {
+            if (!value.isMutable()) {
+                this.method.visitLdcInsn(value.get());
+
+                return;
+            }
+
+            switch (value) {
+                case Group group -> emit(group.contents());
+                case Negative negative -> {
+                    emit(negative.value());
+                    this.method.visitInsn(Opcodes.DNEG);
+                }
+                case BooleanNegate negate -> {
+                    emit(negate.value());
+                    this.method.visitInsn(Opcodes.DCONST_0);
+                    this.method.visitInsn(Opcodes.DCMPL);
+                    emitBoolean(Opcodes.IFNE);
+                }
+                case Ternary ternary -> {
+                    Label falseBranch = new Label();
+                    Label end = new Label();
+
+                    emit(ternary.condition());
+                    this.method.visitInsn(Opcodes.DCONST_0);
+                    this.method.visitInsn(Opcodes.DCMPL);
+                    this.method.visitJumpInsn(Opcodes.IFEQ, falseBranch);
+                    emit(ternary.trueValue());
+                    this.method.visitJumpInsn(Opcodes.GOTO, end);
+                    this.method.visitLabel(falseBranch);
+                    emit(ternary.falseValue());
+                    this.method.visitLabel(end);
+                }
+                case CompoundValue compound -> {
+                    MathValue[] subValues = compound.subValues();
+
+                    for (int i = 0; i < subValues.length; i++) {
+                        emit(subValues[i]);
+
+                        if (i < subValues.length - 1)
+                            this.method.visitInsn(Opcodes.POP2);
+                    }
+                }
+                case Variable variable -> {
+                    loadField(variable, VARIABLE);
+                    this.method.visitVarInsn(Opcodes.ALOAD, 1);
+                    this.method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, VARIABLE, "get", "(L" + CONTEXT + ";)D", false);
+                }
+                case Calculation calculation -> emitCalculation(calculation);
+                default -> emitDelegate(value);
+            }
+        }
+
+        /**
+         * Emit a call to the given value's own {@link MathValue#get()}, for values that can't be compiled
+         */
+        private void emitDelegate(MathValue value) {
+            loadField(value, MATH_VALUE);
+            this.method.visitMethodInsn(Opcodes.INVOKEINTERFACE, MATH_VALUE, "get", "()D", true);
+        }
+
+        /**
+         * Emit a {@link Calculation} as its equivalent bytecode, matching the semantics of its {@link Operator}
+         * <p>
+         * Operators other than the built-in ones are evaluated via the Calculation itself
+         */
+        private void emitCalculation(Calculation calculation) {
+            Operator operator = calculation.operator();
+
+            if (operator == Operator.ADD || operator == Operator.SUB || operator == Operator.MUL || operator == Operator.POW) {
+                emit(calculation.argA());
+                emit(calculation.argB());
+
+                if (operator == Operator.ADD) {
+                    this.method.visitInsn(Opcodes.DADD);
+                }
+                else if (operator == Operator.SUB) {
+                    this.method.visitInsn(Opcodes.DSUB);
+                }
+                else if (operator == Operator.MUL) {
+                    this.method.visitInsn(Opcodes.DMUL);
+                }
+                else {
+                    this.method.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "pow", "(DD)D", false);
+                }
+
+                return;
+            }
+
+            if (operator == Operator.EQUAL || operator == Operator.NOT_EQUAL) {
+                emit(calculation.argA());
+                emit(calculation.argB());
+                this.method.visitInsn(Opcodes.DSUB);
+                this.method.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "abs", "(D)D", false);
+                this.method.visitLdcInsn(0.00001d);
+
+                if (operator == Operator.EQUAL) {
+                    this.method.visitInsn(Opcodes.DCMPG);
+                    emitBoolean(Opcodes.IFGE);
+                }
+                else {
+                    this.method.visitInsn(Opcodes.DCMPL);
+                    emitBoolean(Opcodes.IFLT);
+                }
+
+                return;
+            }
+
+            if (operator == Operator.LT || operator == Operator.LTE || operator == Operator.GT || operator == Operator.GTE) {
+                emit(calculation.argA());
+                emit(calculation.argB());
+
+                // DCMPG/DCMPL are chosen so that NaN comparisons are false, as in Java
+                if (operator == Operator.LT || operator == Operator.LTE) {
+                    this.method.visitInsn(Opcodes.DCMPG);
+                    emitBoolean(operator == Operator.LT ? Opcodes.IFGE : Opcodes.IFGT);
+                }
+                else {
+                    this.method.visitInsn(Opcodes.DCMPL);
+                    emitBoolean(operator == Operator.GT ? Opcodes.IFLE : Opcodes.IFLT);
+                }
+
+                return;
+            }
+
+            if (operator != Operator.DIV && operator != Operator.MOD && operator != Operator.AND && operator != Operator.OR) {
+                emitDelegate(calculation);
+
+                return;
+            }
+
+            // Both arguments are always evaluated, to match the interpreted behaviour
+            int argA = storeLocal(calculation.argA());
+            int argB = storeLocal(calculation.argB());
+
+            if (operator == Operator.AND || operator == Operator.OR) {
+                Label result = new Label();
+                Label end = new Label();
+                int shortCircuit = operator == Operator.AND ? Opcodes.IFEQ : Opcodes.IFNE;
+
+                this.method.visitVarInsn(Opcodes.DLOAD, argA);
+                this.method.visitInsn(Opcodes.DCONST_0);
+                this.method.visitInsn(Opcodes.DCMPL);
+                this.method.visitJumpInsn(shortCircuit, result);
+                this.method.visitVarInsn(Opcodes.DLOAD, argB);
+                this.method.visitInsn(Opcodes.DCONST_0);
+                this.method.visitInsn(Opcodes.DCMPL);
+                this.method.visitJumpInsn(shortCircuit, result);
+                this.method.visitInsn(operator == Operator.AND ? Opcodes.DCONST_1 : Opcodes.DCONST_0);
+                this.method.visitJumpInsn(Opcodes.GOTO, end);
+                this.method.visitLabel(result);
+                this.method.visitInsn(operator == Operator.AND ? Opcodes.DCONST_0 : Opcodes.DCONST_1);
+                this.method.visitLabel(end);
+
+                return;
+            }
+
+            Label divide = new Label();
+            Label end = new Label();
+
+            this.method.visitVarInsn(Opcodes.DLOAD, argB);
+            this.method.visitInsn(Opcodes.DCONST_0);
+            this.method.visitInsn(Opcodes.DCMPL);
+            this.method.visitJumpInsn(Opcodes.IFNE, divide);
+            this.method.visitVarInsn(Opcodes.DLOAD, argA);
+            this.method.visitJumpInsn(Opcodes.GOTO, end);
+            this.method.visitLabel(divide);
+            this.method.visitVarInsn(Opcodes.DLOAD, argA);
+            this.method.visitVarInsn(Opcodes.DLOAD, argB);
+            this.method.visitInsn(operator == Operator.DIV ? Opcodes.DDIV : Opcodes.DREM);
+            this.method.visitLabel(end);
+        }
+
+        /**
+         * Convert the int on the stack into a 1 or 0 double, producing 0 if the given jump instruction succeeds
+         */
+        private void emitBoolean(int falseJump) {
+            Label falseBranch = new Label();
+            Label end = new Label();
+
+            this.method.visitJumpInsn(falseJump, falseBranch);
+            this.method.visitInsn(Opcodes.DCONST_1);
+            this.method.visitJumpInsn(Opcodes.GOTO, end);
+            this.method.visitLabel(falseBranch);
+            this.method.visitInsn(Opcodes.DCONST_0);
+            this.method.visitLabel(end);
+        }
+
+        /**
+         * Whether the given value reads any {@link Variable Variables} directly, and so needs the current {@link MolangContext}
+         */
+        private static boolean usesContext(MathValue value) {
+            if (!value.isMutable())
+                return false;
+
+            return switch (value) {
+                case Variable variable -> true;
+                case Group group -> usesContext(group.contents());
+                case Negative negative -> usesContext(negative.value());
+                case BooleanNegate negate -> usesContext(negate.value());
+                case Ternary ternary -> usesContext(ternary.condition()) || usesContext(ternary.trueValue()) || usesContext(ternary.falseValue());
+                case Calculation calculation -> usesContext(calculation.argA()) || usesContext(calculation.argB());
+                case CompoundValue compound -> {
+                    for (MathValue subValue : compound.subValues()) {
+                        if (usesContext(subValue))
+                            yield true;
+                    }
+
+                    yield false;
+                }
+                default -> false;
+            };
+        }
+
+        private int storeLocal(MathValue value) {
+            int local = this.nextLocal;
+            this.nextLocal += 2;
+
+            emit(value);
+            this.method.visitVarInsn(Opcodes.DSTORE, local);
+
+            return local;
+        }
+
+        private void loadField(MathValue value, String type) {
+            int index = this.fields.indexOf(value);
+
+            if (index == -1 || !this.fieldTypes.get(index).equals(type)) {
+                index = this.fields.size();
+
+                this.fields.add(value);
+                this.fieldTypes.add(type);
+            }
+
+            this.method.visitVarInsn(Opcodes.ALOAD, 0);
+            this.method.visitFieldInsn(Opcodes.GETFIELD, COMPILED_NAME, "v" + index, "L" + type + ";");
+        }
+    }
+}
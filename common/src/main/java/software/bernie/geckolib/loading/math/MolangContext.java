@@ -0,0 +1,117 @@
+package software.bernie.geckolib.loading.math;
+
+import it.unimi.dsi.fastutil.objects.Reference2DoubleOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.loading.math.value.Variable;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Per-thread evaluation context for the Molang system
+ * <p>
+ * Holds the {@link MolangQueries.Actor Actor} currently being evaluated, as well as any {@link Variable} values that have been set
+ * for that evaluation specifically (such as {@link MolangQueries#ANIM_TIME}).<br>
+ * Because each thread has its own context, {@link MathValue MathValues} can be evaluated for multiple animatables concurrently without
+ * them interfering with each other.
+ * <p>
+ * Values set in the context take precedence over the globally-set value of a {@link Variable}, which continues to act as the fallback
+ * for any variable not set in the context
+ * <p>
+ * The context also caches the results of {@link MolangQueries#setActorVariable actor queries}, so that each query is only computed once per actor,
+ * regardless of how many expressions use it
+ */
+public final class MolangContext {
+    /**
+     * Whether actor query results should be cached for the duration of each actor's evaluation
+     */
+    public static boolean CACHE_QUERIES = true;
+
+    private static final ThreadLocal<MolangContext> CONTEXT = ThreadLocal.withInitial(MolangContext::new);
+
+    private final Reference2DoubleOpenHashMap<Variable> values = new Reference2DoubleOpenHashMap<>();
+    private final Reference2DoubleOpenHashMap<Variable> queryCache = new Reference2DoubleOpenHashMap<>();
+    @Nullable
+    private MolangQueries.Actor<?> actor = null;
+
+    private MolangContext() {
+        this.queryCache.defaultReturnValue(Double.NaN);
+    }
+
+    /**
+     * @return The Molang context for the current thread
+     */
+    public static MolangContext get() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * Bind a new actor to this context, discarding any values set for the previous actor
+     */
+    public void setActor(MolangQueries.Actor<?> actor) {
+        this.actor = actor;
+
+        this.values.clear();
+        this.queryCache.clear();
+    }
+
+    /**
+     * @return The actor currently bound to this context, or null if not currently evaluating for an animatable
+     */
+    @Nullable
+    public MolangQueries.Actor<?> getActor() {
+        return this.actor;
+    }
+
+    /**
+     * Set the value of a {@link Variable} for this context only
+     */
+    public void setValue(Variable variable, double value) {
+        this.values.put(variable, value);
+    }
+
+    /**
+     * @return Whether the given {@link Variable} has a value set in this context
+     */
+    public boolean hasValue(Variable variable) {
+        return !this.values.isEmpty() && this.values.containsKey(variable);
+    }
+
+    /**
+     * @return The value of the given {@link Variable} in this context, or 0 if not set
+     */
+    public double getValue(Variable variable) {
+        return this.values.getDouble(variable);
+    }
+
+    /**
+     * Compute the value of an actor query for the current actor, or retrieve it if it has already been computed for this actor
+     *
+     * @param variable The variable the query is bound to
+     * @param query The function computing the query's value from the actor
+     * @return The value of the query for the current actor
+     */
+    public double computeQuery(Variable variable, ToDoubleFunction<MolangQueries.Actor<?>> query) {
+        if (!CACHE_QUERIES || this.actor == null)
+            return query.applyAsDouble(this.actor);
+
+        double value = this.queryCache.getDouble(variable);
+
+        if (Double.isNaN(value) && !this.queryCache.containsKey(variable)) {
+            value = query.applyAsDouble(this.actor);
+
+            this.queryCache.put(variable, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Clear the actor, any set values, and any cached query values from this context
+     */
+    public void clear() {
+        this.actor = null;
+
+        this.values.clear();
+        this.queryCache.clear();
+    }
+}
@@ -114,7 +114,6 @@ public final class MolangQueries {
 	public static final String YAW_SPEED = "query.yaw_speed";
 
 	private static final Map<String, Variable> VARIABLES = new ConcurrentHashMap<>();
-	private static Actor<?> ACTOR = null;
 
 	static {
 		setDefaultQueryValues();
@@ -165,19 +164,21 @@ public final class MolangQueries {
 	}
 
 	/**
-	 * Update the currently rendering animatable. Should be called via {@link software.bernie.geckolib.model.GeoModel#applyMolangQueries(AnimationState, double) GeoModel.applyMolangQueries} when rendering
+	 * Update the currently rendering animatable for the current thread's {@link MolangContext}. Should be called via {@link software.bernie.geckolib.model.GeoModel#applyMolangQueries(AnimationState, double) GeoModel.applyMolangQueries} when rendering
 	 * @param animationState The AnimationState for the current render pass
 	 * @param animTime The internal tick counter kept by the {@link AnimatableManager manager} for this animatable
 	 */
 	public static void updateActor(AnimationState<? extends GeoAnimatable> animationState, double animTime) {
-		ACTOR = new Actor<>(animationState, animationState.getAnimatable(), animTime, Minecraft.getInstance(), Minecraft.getInstance().level);
+		MolangContext.get().setActor(new Actor<>(animationState, animationState.getAnimatable(), animTime, Minecraft.getInstance(), Minecraft.getInstance().level));
 	}
 
 	/**
 	 * Cleanup method called automatically by {@link software.bernie.geckolib.renderer.GeoRenderer#defaultRender} to eliminate a memory leak
+	 * <p>
+	 * Only clears the actor for the current thread
 	 */
 	public static void clearActor() {
-		ACTOR = null;
+		MolangContext.get().clear();
 	}
 
 	/**
@@ -188,23 +189,48 @@ public final class MolangQueries {
 	public record Actor<T>(AnimationState<? extends GeoAnimatable> animationState, T animatable, double animTime, Minecraft mc, Level level) {}
 
 	/**
-	 * Set a variable value utilising the {@link #ACTOR} field, with convenient generic handling for ease of use
+	 * Set a variable value utilising the actor in the current thread's {@link MolangContext}, with convenient generic handling for ease of use
+	 * <p>
+	 * The value is computed at most once per actor, and re-used for any further uses of the variable while that actor is being evaluated.
+	 * Use {@link #setActorVariable(String, ToDoubleFunction, boolean)} for variables that shouldn't be cached
 	 *
 	 * @param name The variable name
 	 * @param value The value supplier
 	 * @param <T> The lowest-common type of object your actor needs to be in order to evaluate this variable
 	 */
 	public static <T> void setActorVariable(String name, ToDoubleFunction<Actor<T>> value) {
-		getVariableFor(name).set(() -> value.applyAsDouble((Actor)getActor()));
+		setActorVariable(name, value, false);
+	}
+
+	/**
+	 * Set a variable value utilising the actor in the current thread's {@link MolangContext}, with convenient generic handling for ease of use
+	 *
+	 * @param name The variable name
+	 * @param value The value supplier
+	 * @param isVolatile Whether the value may change between uses for the same actor, and so must be re-computed each time it is used
+	 * @param <T> The lowest-common type of object your actor needs to be in order to evaluate this variable
+	 */
+	public static <T> void setActorVariable(String name, ToDoubleFunction<Actor<T>> value, boolean isVolatile) {
+		final Variable variable = getVariableFor(name);
+
+		if (isVolatile) {
+			variable.set(() -> value.applyAsDouble((Actor)getActor()));
+		}
+		else {
+			variable.set(() -> MolangContext.get().computeQuery(variable, (ToDoubleFunction)value));
+		}
 	}
 
 	private static Actor<?> getActor() {
-		return ACTOR;
+		return MolangContext.get().getActor();
 	}
 
 	private static void setDefaultQueryValues() {
 		getVariableFor("PI").set(Math.PI);
 		getVariableFor("E").set(Math.E);
+		// Expressions are lower-cased when parsed, so the constants must also be available under their lower-case names
+		getVariableFor("pi").set(Math.PI);
+		getVariableFor("e").set(Math.E);
 		setActorVariable(CARDINAL_PLAYER_FACING, actor -> actor.mc.player.getDirection().ordinal());
 		setActorVariable(DAY, actor -> actor.level.getGameTime() / 24000d);
 		setActorVariable(FRAME_ALPHA, actor -> actor.animationState().getPartialTick());
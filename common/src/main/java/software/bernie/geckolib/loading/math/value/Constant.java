@@ -1,5 +1,7 @@
 package software.bernie.geckolib.loading.math.value;
 
+import it.unimi.dsi.fastutil.doubles.Double2ObjectMap;
+import it.unimi.dsi.fastutil.doubles.Double2ObjectOpenHashMap;
 import software.bernie.geckolib.loading.math.MathValue;
 
 /**
@@ -11,6 +13,22 @@ import software.bernie.geckolib.loading.math.MathValue;
  * An immutable double value
  */
 public record Constant(double value) implements MathValue {
+    /**
+     * Shared instances of commonly-used values, such as whole numbers and whole-degree angles in radians
+     */
+    private static final Double2ObjectMap<Constant> COMMON_VALUES = buildCommonValues();
+
+    /**
+     * Get a {@code Constant} for the given value, using a shared instance if the value is commonly used
+     * <p>
+     * This should be preferred over creating new instances where many constants are being created, such as when loading animations
+     */
+    public static Constant of(double value) {
+        Constant constant = COMMON_VALUES.get(value);
+
+        return constant != null ? constant : new Constant(value);
+    }
+
     @Override
     public double get() {
         return this.value;
@@ -25,4 +43,16 @@ public record Constant(double value) implements MathValue {
     public String toString() {
         return String.valueOf(this.value);
     }
+
+    private static Double2ObjectMap<Constant> buildCommonValues() {
+        Double2ObjectMap<Constant> values = new Double2ObjectOpenHashMap<>();
+
+        for (int i = -360; i <= 360; i++) {
+            values.putIfAbsent(i, new Constant(i));
+            values.putIfAbsent(i + 0.5d, new Constant(i + 0.5d));
+            values.putIfAbsent(Math.toRadians(i), new Constant(Math.toRadians(i)));
+        }
+
+        return values;
+    }
 }
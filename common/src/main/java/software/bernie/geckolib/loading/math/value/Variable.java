@@ -2,6 +2,7 @@ package software.bernie.geckolib.loading.math.value;
 
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.MolangContext;
 
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.DoubleSupplier;
@@ -13,6 +14,8 @@ import java.util.function.DoubleSupplier;
  * <b>Contract:</b>
  * <br>
  * Returns the currently stored value, which may be modified at any given time via {@link #set}. Values may be lazily evaluated to eliminate wasteful usage
+ * <p>
+ * If the current thread's {@link MolangContext} has a value set for this variable, that value is returned instead
  */
 public record Variable(String name, AtomicReference<DoubleSupplier> value) implements MathValue {
     public Variable(String name, double value) {
@@ -25,6 +28,18 @@ public record Variable(String name, AtomicReference<DoubleSupplier> value) imple
 
     @Override
     public double get() {
+        return get(MolangContext.get());
+    }
+
+    /**
+     * Get the value of this variable for the provided {@link MolangContext}
+     * <p>
+     * Allows callers evaluating several variables at once to look up the current thread's context only once
+     */
+    public double get(MolangContext context) {
+        if (context.hasValue(this))
+            return context.getValue(this);
+
         try {
             return this.value.get().getAsDouble();
         }
@@ -43,6 +58,13 @@ public record Variable(String name, AtomicReference<DoubleSupplier> value) imple
         this.value.set(value);
     }
 
+    /**
+     * Set the value of this variable for the current thread's {@link MolangContext} only, leaving the global value untouched
+     */
+    public void setForContext(final double value) {
+        MolangContext.get().setValue(this, value);
+    }
+
     @Override
     public String toString() {
         return this.name + "(" + this.value.get().getAsDouble() + ")";
@@ -1,6 +1,7 @@
 package software.bernie.geckolib.loading.math.value;
 
 import software.bernie.geckolib.loading.math.MathValue;
+import software.bernie.geckolib.loading.math.MolangContext;
 
 /**
  * {@link MathValue} value supplier
@@ -9,11 +10,23 @@ import software.bernie.geckolib.loading.math.MathValue;
  * <b>Contract:</b>
  * <br>
  * Assigns a variable to the given value, then returns 0
+ * <p>
+ * Assignments set the variable's global value, so they persist between evaluations and across animatables, as they always have.<br>
+ * The exception is a variable that already has a value set in the current thread's {@link MolangContext} (such as {@code query.anim_time}
+ * while an animatable is being processed), in which case only the context's value is changed, leaving the global value untouched
  */
 public record VariableAssignment(Variable variable, MathValue value) implements MathValue {
     @Override
     public double get() {
-        this.variable.set(this.value.get());
+        MolangContext context = MolangContext.get();
+        double value = this.value.get();
+
+        if (context.getActor() != null && context.hasValue(this.variable)) {
+            context.setValue(this.variable, value);
+        }
+        else {
+            this.variable.set(value);
+        }
 
         return 0;
     }
@@ -1,16 +1,41 @@
 package software.bernie.geckolib.loading.object;
 
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.Animation;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Container object that holds a deserialized map of {@link Animation Animations}
  * <p>
  * Kept as a unique object so that it can be registered as a {@link com.google.gson.JsonDeserializer deserializer} for {@link com.google.gson.Gson Gson}
+ *
+ * @param molangVariables The names of all Molang variables (including queries) used by any of the animations
  */
-public record BakedAnimations(Map<String, Animation> animations) {
+public record BakedAnimations(Map<String, Animation> animations, Set<String> molangVariables) {
+	public BakedAnimations(Map<String, Animation> animations) {
+		this(animations, findMolangVariables(animations));
+	}
+
+	/**
+	 * @return Whether any of the animations use Molang variables or queries
+	 */
+	public boolean usesMolangVariables() {
+		return !this.molangVariables.isEmpty();
+	}
+
+	private static Set<String> findMolangVariables(Map<String, Animation> animations) {
+		Set<String> variables = new ObjectOpenHashSet<>();
+
+		for (Animation animation : animations.values()) {
+			variables.addAll(animation.molangVariables());
+		}
+
+		return variables.isEmpty() ? Set.of() : Set.copyOf(variables);
+	}
+
 	/**
 	 * Gets an {@link Animation} by its name, if present
 	 */
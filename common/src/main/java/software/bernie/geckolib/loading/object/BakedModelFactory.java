@@ -5,6 +5,7 @@ import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.core.Direction;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
 import software.bernie.geckolib.cache.object.*;
 import software.bernie.geckolib.loading.json.raw.*;
 import software.bernie.geckolib.util.GeckoLibUtil;
@@ -143,12 +144,11 @@ public interface BakedModelFactory {
 		@Override
 		public GeoBone constructBone(BoneStructure boneStructure, ModelProperties properties, GeoBone parent) {
 			Bone bone = boneStructure.self();
-			GeoBone newBone = new GeoBone(parent, bone.name(), bone.mirror(), bone.inflate(), bone.neverRender(), bone.reset());
 			Vec3 rotation = RenderUtil.arrayToVec(bone.rotation());
 			Vec3 pivot = RenderUtil.arrayToVec(bone.pivot());
-
-			newBone.updateRotation((float)Math.toRadians(-rotation.x), (float)Math.toRadians(-rotation.y), (float)Math.toRadians(rotation.z));
-			newBone.updatePivot((float)-pivot.x, (float)pivot.y, (float)pivot.z);
+			GeoBone newBone = new GeoBone(parent, bone.name(), bone.mirror(), bone.inflate(), bone.neverRender(), bone.reset(),
+					new Vector3f((float)-pivot.x, (float)pivot.y, (float)pivot.z),
+					new Vector3f((float)Math.toRadians(-rotation.x), (float)Math.toRadians(-rotation.y), (float)Math.toRadians(rotation.z)));
 
 			for (Cube cube : bone.cubes()) {
 				newBone.getCubes().add(constructCube(cube, properties, newBone));
@@ -0,0 +1,275 @@
+package software.bernie.geckolib.loading.object;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+import software.bernie.geckolib.GeckoLibConstants;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+import software.bernie.geckolib.cache.object.GeoCube;
+import software.bernie.geckolib.cache.object.GeoQuad;
+
+import java.util.List;
+
+/**
+ * Bake-time removal of {@link GeoQuad faces} that can never be seen
+ * <p>
+ * The following faces are removed:
+ * <ul>
+ *     <li>Faces with zero area, such as the edges of zero-thickness 'plane' cubes</li>
+ *     <li>Faces entirely enclosed by another cube in the same bone</li>
+ *     <li>Faces lying flat against another cube in the same bone that covers them, such as back-to-back faces of adjoining cubes</li>
+ * </ul>
+ * The latter two assume that the texture of the covering cube is opaque, as a face behind a translucent texture can still be seen.
+ * They can be disabled with {@link #ASSUME_OPAQUE}, and only consider cubes that aren't rotated and have all six faces.
+ * <p>
+ * Removed faces are replaced with null in their cube's {@link GeoCube#quads() quads} array, in the same way as faces with no UV
+ * <p>
+ * Culling is run by {@link BakedGeoModel} when it is constructed, before its cubes are {@link software.bernie.geckolib.cache.object.PackedCubes packed}
+ */
+public final class HiddenFaceCuller {
+	/**
+	 * Whether hidden faces should be removed from models when they're loaded
+	 */
+	public static boolean ENABLED = false;
+	/**
+	 * Whether cubes can be assumed to be opaque, allowing faces covered by other cubes to be removed
+	 */
+	public static boolean ASSUME_OPAQUE = true;
+
+	private static final float EPSILON = 1e-5f;
+
+	private HiddenFaceCuller() {}
+
+	/**
+	 * Summary of the faces removed from a model
+	 *
+	 * @param totalFaces The number of faces the model had before culling
+	 * @param zeroAreaFaces The number of faces removed for having no area
+	 * @param occludedFaces The number of faces removed for being covered by another cube
+	 */
+	public record Summary(int totalFaces, int zeroAreaFaces, int occludedFaces) {
+		public int removedFaces() {
+			return this.zeroAreaFaces + this.occludedFaces;
+		}
+	}
+
+	/**
+	 * Remove the hidden faces from the given bones, logging a summary of the removed faces
+	 * <p>
+	 * This is called automatically when a {@link BakedGeoModel} is constructed, and should not be called on bones that already belong to a model
+	 *
+	 * @param bones The bones of the model to remove hidden faces from
+	 * @param modelName The identifier of the model, for logging
+	 * @return A summary of the faces removed from the model
+	 */
+	@ApiStatus.Internal
+	public static Summary cullHiddenFaces(List<GeoBone> bones, @Nullable String modelName) {
+		int[] counts = new int[3];
+
+		for (GeoBone bone : bones) {
+			cullHiddenFaces(bone, counts);
+		}
+
+		Summary summary = new Summary(counts[0], counts[1], counts[2]);
+
+		if (summary.removedFaces() > 0)
+			GeckoLibConstants.LOGGER.debug("Removed {} of {} faces from model {} ({} with no area, {} covered by other cubes)",
+					summary.removedFaces(), summary.totalFaces(), modelName, summary.zeroAreaFaces(), summary.occludedFaces());
+
+		return summary;
+	}
+
+	private static void cullHiddenFaces(GeoBone bone, int[] counts) {
+		List<CubeBounds> occluders = ASSUME_OPAQUE ? findOccluders(bone) : List.of();
+
+		for (GeoCube cube : bone.getCubes()) {
+			GeoQuad[] quads = cube.quads();
+			CubeBounds bounds = null;
+
+			for (int i = 0; i < quads.length; i++) {
+				GeoQuad quad = quads[i];
+
+				if (quad == null)
+					continue;
+
+				counts[0]++;
+
+				if (hasNoArea(quad)) {
+					quads[i] = null;
+					counts[1]++;
+
+					continue;
+				}
+
+				if (occluders.isEmpty() || !isUnrotated(cube))
+					continue;
+
+				if (bounds == null)
+					bounds = CubeBounds.of(cube);
+
+				if (isOccluded(quad, cube, bounds, occluders)) {
+					quads[i] = null;
+					counts[2]++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Find the cubes in the bone that can hide other faces. These must be unrotated, have all six faces, and have a non-zero size on each axis
+	 */
+	private static List<CubeBounds> findOccluders(GeoBone bone) {
+		List<CubeBounds> occluders = new ObjectArrayList<>();
+
+		cubes:
+		for (GeoCube cube : bone.getCubes()) {
+			if (!isUnrotated(cube))
+				continue;
+
+			for (GeoQuad quad : cube.quads()) {
+				if (quad == null)
+					continue cubes;
+			}
+
+			CubeBounds bounds = CubeBounds.of(cube);
+
+			if (bounds.hasVolume())
+				occluders.add(bounds);
+		}
+
+		return occluders;
+	}
+
+	/**
+	 * Whether the given face is either enclosed by, or lying flat against and covered by, another cube
+	 */
+	private static boolean isOccluded(GeoQuad quad, GeoCube cube, CubeBounds bounds, List<CubeBounds> occluders) {
+		int axis = getPlaneAxis(quad);
+
+		if (axis == -1)
+			return false;
+
+		float plane = quad.vertices()[0].position().get(axis);
+		float centre = (bounds.min[axis] + bounds.max[axis]) * 0.5f;
+
+		// Faces of zero-thickness cubes face both ways, so we can't tell which side they need to be covered from
+		if (Math.abs(plane - centre) < EPSILON)
+			return false;
+
+		boolean facingPositive = plane > centre;
+		int axis2 = (axis + 1) % 3;
+		int axis3 = (axis + 2) % 3;
+		float[] faceMin = new float[3];
+		float[] faceMax = new float[3];
+
+		computeFaceBounds(quad, faceMin, faceMax);
+
+		for (CubeBounds occluder : occluders) {
+			if (occluder.cube == cube)
+				continue;
+
+			if (!occluder.contains(axis2, faceMin[axis2], faceMax[axis2]) || !occluder.contains(axis3, faceMin[axis3], faceMax[axis3]))
+				continue;
+
+			// Enclosed within the other cube
+			if (plane > occluder.min[axis] + EPSILON && plane < occluder.max[axis] - EPSILON)
+				return true;
+
+			// Flat against the side of the other cube, facing into it
+			if (facingPositive ? Math.abs(plane - occluder.min[axis]) < EPSILON : Math.abs(plane - occluder.max[axis]) < EPSILON)
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Get the axis that the given face lies flat on
+	 *
+	 * @return The axis index (0, 1, or 2 for x, y, z), or -1 if the face isn't axis-aligned
+	 */
+	private static int getPlaneAxis(GeoQuad quad) {
+		float[] faceMin = new float[3];
+		float[] faceMax = new float[3];
+
+		computeFaceBounds(quad, faceMin, faceMax);
+
+		for (int axis = 0; axis < 3; axis++) {
+			if (faceMax[axis] - faceMin[axis] < EPSILON)
+				return axis;
+		}
+
+		return -1;
+	}
+
+	private static void computeFaceBounds(GeoQuad quad, float[] min, float[] max) {
+		for (int axis = 0; axis < 3; axis++) {
+			min[axis] = Float.POSITIVE_INFINITY;
+			max[axis] = Float.NEGATIVE_INFINITY;
+
+			for (int i = 0; i < quad.vertices().length; i++) {
+				float value = quad.vertices()[i].position().get(axis);
+
+				min[axis] = Math.min(min[axis], value);
+				max[axis] = Math.max(max[axis], value);
+			}
+		}
+	}
+
+	/**
+	 * Whether the given face has no area, and so can never be rendered
+	 */
+	private static boolean hasNoArea(GeoQuad quad) {
+		if (quad.vertices().length != 4)
+			return false;
+
+		Vector3f first = quad.vertices()[0].position();
+		Vector3f second = quad.vertices()[1].position();
+		Vector3f third = quad.vertices()[2].position();
+		Vector3f fourth = quad.vertices()[3].position();
+		Vector3f diagonal = new Vector3f(third).sub(first);
+		Vector3f crossDiagonal = new Vector3f(fourth).sub(second);
+
+		return diagonal.cross(crossDiagonal).lengthSquared() < EPSILON * EPSILON;
+	}
+
+	private static boolean isUnrotated(GeoCube cube) {
+		return cube.rotation().x == 0 && cube.rotation().y == 0 && cube.rotation().z == 0;
+	}
+
+	/**
+	 * Axis-aligned bounds of an unrotated cube, computed from its vertices
+	 */
+	private record CubeBounds(GeoCube cube, float[] min, float[] max) {
+		static CubeBounds of(GeoCube cube) {
+			float[] min = {Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY};
+			float[] max = {Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY};
+			float[] quadMin = new float[3];
+			float[] quadMax = new float[3];
+
+			for (GeoQuad quad : cube.quads()) {
+				if (quad == null)
+					continue;
+
+				computeFaceBounds(quad, quadMin, quadMax);
+
+				for (int axis = 0; axis < 3; axis++) {
+					min[axis] = Math.min(min[axis], quadMin[axis]);
+					max[axis] = Math.max(max[axis], quadMax[axis]);
+				}
+			}
+
+			return new CubeBounds(cube, min, max);
+		}
+
+		boolean hasVolume() {
+			return this.max[0] - this.min[0] > EPSILON && this.max[1] - this.min[1] > EPSILON && this.max[2] - this.min[2] > EPSILON;
+		}
+
+		boolean contains(int axis, float min, float max) {
+			return min >= this.min[axis] - EPSILON && max <= this.max[axis] + EPSILON;
+		}
+	}
+}
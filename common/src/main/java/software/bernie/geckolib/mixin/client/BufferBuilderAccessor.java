@@ -0,0 +1,38 @@
+package software.bernie.geckolib.mixin.client;
+
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.ByteBufferBuilder;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import software.bernie.geckolib.util.DirectVertexWriter;
+
+/**
+ * Accessor mixin for the internal state of <code>BufferBuilders</code>, for writing vertex data in bulk via {@link DirectVertexWriter}
+ */
+@Mixin(BufferBuilder.class)
+public interface BufferBuilderAccessor {
+    @Accessor("buffer")
+    ByteBufferBuilder geckolib$getBuffer();
+
+    @Accessor("format")
+    VertexFormat geckolib$getFormat();
+
+    @Accessor("mode")
+    VertexFormat.Mode geckolib$getMode();
+
+    @Accessor("building")
+    boolean geckolib$isBuilding();
+
+    @Accessor("elementsToFill")
+    int geckolib$getElementsToFill();
+
+    @Accessor("vertices")
+    int geckolib$getVertices();
+
+    @Accessor("vertices")
+    void geckolib$setVertices(int vertices);
+
+    @Accessor("vertexPointer")
+    void geckolib$setVertexPointer(long vertexPointer);
+}
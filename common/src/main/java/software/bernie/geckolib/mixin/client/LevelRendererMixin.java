@@ -1,16 +1,27 @@
 package software.bernie.geckolib.mixin.client;
 
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.minecraft.client.Camera;
+import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.world.entity.Entity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import software.bernie.geckolib.animation.AnimationPrePass;
+import software.bernie.geckolib.animation.AnimationThrottle;
 import software.bernie.geckolib.loading.math.MathParser;
 import software.bernie.geckolib.loading.math.MolangQueries;
+import software.bernie.geckolib.renderer.BoneLod;
+
+import java.util.List;
 
 /**
- * Capture pre-render data for Molang queries
+ * Capture pre-render data for Molang queries, advance the animation frame id, run the {@link AnimationPrePass} if enabled,
+ * mark the bounds of level rendering for {@link BoneLod}, and reset the {@link AnimationThrottle} frame budget
  */
 @Mixin(LevelRenderer.class)
 public class LevelRendererMixin {
@@ -22,5 +33,18 @@ public class LevelRendererMixin {
         final int renderedEntityCount = this.visibleEntityCount;
 
         MathParser.setVariable(MolangQueries.ACTOR_COUNT, () -> renderedEntityCount);
+        BoneLod.setLevelRendering(true);
+        AnimationPrePass.startFrame();
+        AnimationThrottle.startFrame();
+    }
+
+    @Inject(method = "renderLevel", at = @At(value = "RETURN"))
+    public void geckolib$finishLevelRender(CallbackInfo ci) {
+        BoneLod.setLevelRendering(false);
+    }
+
+    @Inject(method = "renderEntities", at = @At(value = "HEAD"), require = 0)
+    public void geckolib$prepareEntityAnimations(PoseStack poseStack, MultiBufferSource.BufferSource bufferSource, Camera camera, DeltaTracker deltaTracker, List<Entity> entities, CallbackInfo ci) {
+        AnimationPrePass.prepareFrame(entities, deltaTracker);
     }
 }
@@ -53,13 +53,13 @@ public class DefaultedEntityGeoModel<T extends GeoAnimatable> extends DefaultedG
 		if (!this.turnsHead)
 			return;
 
-		GeoBone head = getAnimationProcessor().getBone("head");
+		GeoBone head = animationState.getBone("head");
 
 		if (head != null) {
 			EntityModelData entityData = animationState.getData(DataTickets.ENTITY_MODEL_DATA);
 
-			head.setRotX(entityData.headPitch() * Mth.DEG_TO_RAD);
-			head.setRotY(entityData.netHeadYaw() * Mth.DEG_TO_RAD);
+			animationState.getPose().setRotX(head.getIndex(), entityData.headPitch() * Mth.DEG_TO_RAD);
+			animationState.getPose().setRotY(head.getIndex(), entityData.netHeadYaw() * Mth.DEG_TO_RAD);
 		}
 	}
 
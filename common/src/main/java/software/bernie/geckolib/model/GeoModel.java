@@ -10,9 +10,12 @@ import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.GeoReplacedEntity;
 import software.bernie.geckolib.animation.AnimatableManager;
+import software.bernie.geckolib.animation.AnimationPrePass;
 import software.bernie.geckolib.animation.Animation;
 import software.bernie.geckolib.animation.AnimationProcessor;
 import software.bernie.geckolib.animation.AnimationState;
+import software.bernie.geckolib.animation.AnimationThrottle;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.GeckoLibCache;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
@@ -22,7 +25,9 @@ import software.bernie.geckolib.loading.object.BakedAnimations;
 import software.bernie.geckolib.renderer.GeoRenderer;
 import software.bernie.geckolib.util.RenderUtil;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.DoubleSupplier;
 
@@ -37,9 +42,7 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 	private final AnimationProcessor<T> processor = new AnimationProcessor<>(this);
 
 	private BakedGeoModel currentModel = null;
-	private double animTime;
-	private double lastGameTickTime;
-	private long lastRenderedInstance = -1;
+	private volatile MolangUsageCache molangUsage = new MolangUsageCache(null);
 
 	/**
 	 * Returns the resource path for the {@link BakedGeoModel} (model json file) to render based on the provided animatable
@@ -76,6 +79,15 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 		return false;
 	}
 
+	/**
+	 * Override this and return true if this model's animations can be safely computed off the render thread
+	 * <p>
+	 * Only relevant if the {@link AnimationPrePass} is enabled. See its documentation for the requirements a model has to meet to opt in
+	 */
+	public boolean canAnimateOffThread(T animatable) {
+		return false;
+	}
+
 	/**
 	 * Gets the default render type for this animatable, to be selected by default by the renderer using it
 	 *
@@ -107,6 +119,16 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 		return this.currentModel;
 	}
 
+	/**
+	 * Hint that this model's resources for the given animatable are likely to be needed soon, so that they can be baked in the background ahead of time
+	 * <p>
+	 * Only has an effect if {@link GeckoLibCache#LAZY_LOADING lazy loading} is enabled
+	 */
+	public void prefetchResources(T animatable) {
+		GeckoLibCache.prefetchModel(getModelResource(animatable, null));
+		GeckoLibCache.prefetchAnimations(getAnimationResource(animatable));
+	}
+
 	/**
 	 * Gets a bone from this model by name
 	 *
@@ -151,6 +173,52 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 		return null;
 	}
 
+	/**
+	 * Whether any of the animations available to the given animatable use Molang variables or queries
+	 * <p>
+	 * If not, the Molang actor doesn't need to be built, and {@link #applyMolangQueries} is skipped when animating
+	 * <p>
+	 * The result is cached per {@link #getAnimationResource animation resource} until resources are next reloaded,
+	 * so the {@link #getAnimationResourceFallbacks fallbacks} for a given animation resource are expected to be the same for all animatables.<br>
+	 * The cache is safe to use from the {@link AnimationPrePass} worker threads
+	 *
+	 * @param animatable The {@code GeoAnimatable} instance being animated
+	 */
+	public boolean usesMolangVariables(T animatable) {
+		Map<ResourceLocation, BakedAnimations> allAnimations = GeckoLibCache.getBakedAnimations();
+		MolangUsageCache cache = this.molangUsage;
+
+		if (cache.source() != allAnimations)
+			this.molangUsage = cache = new MolangUsageCache(allAnimations);
+
+		ResourceLocation location = getAnimationResource(animatable);
+		Boolean usesMolangVariables = cache.usage().get(location);
+
+		if (usesMolangVariables == null) {
+			usesMolangVariables = usesMolangVariables(animatable, location, allAnimations);
+
+			cache.usage().put(location, usesMolangVariables);
+		}
+
+		return usesMolangVariables;
+	}
+
+	private boolean usesMolangVariables(T animatable, ResourceLocation location, Map<ResourceLocation, BakedAnimations> allAnimations) {
+		BakedAnimations bakedAnimations = allAnimations.get(location);
+
+		if (bakedAnimations == null || bakedAnimations.usesMolangVariables())
+			return true;
+
+		for (ResourceLocation fallbackLocation : getAnimationResourceFallbacks(animatable, null)) {
+			bakedAnimations = allAnimations.get(fallbackLocation);
+
+			if (bakedAnimations != null && bakedAnimations.usesMolangVariables())
+				return true;
+		}
+
+		return false;
+	}
+
 	/**
 	 * Gets the {@link AnimationProcessor} for this model.
 	 */
@@ -171,11 +239,38 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 	 * This method is called once per render frame for each {@link GeoAnimatable} being rendered
 	 * <p>
 	 * It is an internal method for automated animation parsing. Use {@link GeoModel#setCustomAnimations(GeoAnimatable, long, AnimationState)} for custom animation work
+	 *
+	 * @deprecated Use {@link #handleAnimations(GeoAnimatable, long, AnimationState, BakedGeoModel, float)}, which takes the model to animate
+	 * rather than relying on the last one retrieved via {@link #getBakedModel}
 	 */
+	@Deprecated(forRemoval = true)
 	@ApiStatus.Internal
 	public void handleAnimations(T animatable, long instanceId, AnimationState<T> animationState, float partialTick) {
+		handleAnimations(animatable, instanceId, animationState, this.currentModel, partialTick);
+	}
+
+	/**
+	 * This method is called once per render frame for each {@link GeoAnimatable} being rendered
+	 * <p>
+	 * It is an internal method for automated animation parsing. Use {@link GeoModel#setCustomAnimations(GeoAnimatable, long, AnimationState)} for custom animation work
+	 * <p>
+	 * The resulting pose is stored in the animatable's {@link AnimatableManager#getPose() pose}, ready to be rendered
+	 *
+	 * @param model The baked model the animatable is being rendered with
+	 */
+	@ApiStatus.Internal
+	public void handleAnimations(T animatable, long instanceId, AnimationState<T> animationState, BakedGeoModel model, float partialTick) {
 		Minecraft mc = Minecraft.getInstance();
 		AnimatableManager<T> animatableManager = animatable.getAnimatableInstanceCache().getManagerForId(instanceId);
+		BonePoseBuffer pose = animatableManager.getPose();
+		long frame = AnimationPrePass.getFrameId();
+
+		if (pose.getModel() == model && pose.isPrepared(frame))
+			return;
+
+		pose.prepare(model);
+		animationState.setPose(pose);
+
 		Double currentTick = animationState.getData(DataTickets.TICK);
 
 		if (currentTick == null)
@@ -187,27 +282,50 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 		double currentFrameTime = animatable instanceof Entity || animatable instanceof GeoReplacedEntity ? currentTick + partialTick : currentTick - animatableManager.getFirstTickTime();
 		boolean isReRender = !animatableManager.isFirstTick() && currentFrameTime == animatableManager.getLastUpdateTime();
 
-		if (isReRender && instanceId == this.lastRenderedInstance)
+		if (isReRender && pose.isAnimated())
 			return;
 
-		if (!mc.isPaused() || animatable.shouldPlayAnimsWhileGamePaused()) {
+		if (!mc.isPaused() || animatable.shouldPlayAnimsWhileGamePaused())
 			animatableManager.updatedAt(currentFrameTime);
 
-			double lastUpdateTime = animatableManager.getLastUpdateTime();
-			this.animTime += lastUpdateTime - this.lastGameTickTime;
-			this.lastGameTickTime = lastUpdateTime;
+		double animTime = animatableManager.getLastUpdateTime();
+		animationState.animationTick = animTime;
+		Double cameraDistance = animationState.getData(DataTickets.CAMERA_DISTANCE);
+		double distance = cameraDistance == null ? -1 : cameraDistance;
+
+		if (AnimationThrottle.shouldDefer(animatableManager, model, distance, currentFrameTime, frame)) {
+			animatableManager.updatePoseBlend(currentFrameTime);
+			animatableManager.applyPoseHistory();
+
+			return;
 		}
 
-		animationState.animationTick = this.animTime;
-		this.lastRenderedInstance = instanceId;
+		long startTime = System.nanoTime();
 		AnimationProcessor<T> processor = getAnimationProcessor();
 
-		processor.preAnimationSetup(animationState, this.animTime);
+		processor.preAnimationSetup(animationState, animTime);
 
-		if (!processor.getRegisteredBones().isEmpty())
-			processor.tickAnimation(animatable, this, animatableManager, this.animTime, animationState, crashIfBoneMissing());
+		if (!model.bones().isEmpty())
+			processor.tickAnimation(animatable, this, animatableManager, animTime, animationState, crashIfBoneMissing());
 
 		setCustomAnimations(animatable, instanceId, animationState);
+		pose.markAnimated();
+
+		// The pose history is only needed for throttling
+		if (AnimationThrottle.isThrottled(distance)) {
+			animatableManager.capturePose(currentFrameTime, frame);
+
+			// Throttled animatables are displayed one update behind, so that skipped frames can interpolate towards the latest pose
+			if (animatableManager.hasPoseHistory(model)) {
+				animatableManager.setPoseBlend(0);
+				animatableManager.applyPoseHistory();
+			}
+		}
+		else {
+			animatableManager.clearPoseHistory();
+		}
+
+		AnimationThrottle.recordUpdate(System.nanoTime() - startTime);
 	}
 
 	/**
@@ -224,11 +342,28 @@ public abstract class GeoModel<T extends GeoAnimatable> {
 	/**
 	 * This method is called once per render frame for each {@link GeoAnimatable} being rendered
 	 * <p>
-	 * Use this method to set custom {@link software.bernie.geckolib.loading.math.value.Variable Variable} values via
-	 * {@link software.bernie.geckolib.loading.math.MathParser#setVariable(String, DoubleSupplier) MathParser.setVariable}
+	 * Use this method to set custom {@link software.bernie.geckolib.loading.math.value.Variable Variable} values for the animatable being animated via
+	 * {@link software.bernie.geckolib.loading.math.value.Variable#setForContext Variable.setForContext},
+	 * E.G. {@code MathParser.getVariableFor("variable.my_value").setForContext(value)}
+	 * <p>
+	 * Values set this way only apply to the current thread's {@link software.bernie.geckolib.loading.math.MolangContext MolangContext}, so they are safe to set
+	 * while the {@link AnimationPrePass} animates multiple animatables concurrently. The global setters such as
+	 * {@link software.bernie.geckolib.loading.math.MathParser#setVariable(String, DoubleSupplier) MathParser.setVariable} are shared by all animatables,
+	 * and should not be used here
+	 * <p>
+	 * Not called if none of the animatable's animations use Molang variables. See {@link #usesMolangVariables}
 	 *
 	 * @param animationState The AnimationState data for the current render frame
 	 * @param animTime The internal tick counter kept by the {@link AnimatableManager manager} for this animatable
 	 */
 	public void applyMolangQueries(AnimationState<T> animationState, double animTime) {}
+
+	/**
+	 * Cached {@link #usesMolangVariables} results, valid for as long as the animations map they were computed from is current
+	 */
+	private record MolangUsageCache(@Nullable Map<ResourceLocation, BakedAnimations> source, Map<ResourceLocation, Boolean> usage) {
+		private MolangUsageCache(@Nullable Map<ResourceLocation, BakedAnimations> source) {
+			this(source, new ConcurrentHashMap<>());
+		}
+	}
 }
@@ -0,0 +1,175 @@
+package software.bernie.geckolib.renderer;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import software.bernie.geckolib.cache.GeckoLibCache;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+
+/**
+ * Level-of-detail information for a single render of an animatable, used to skip work on bones that are too small on-screen to be noticed
+ * <p>
+ * Bone sizes are taken from their {@link GeoBone#getCubeExtent() baked extents}, projected to an approximate on-screen size in pixels.
+ * The following reductions are then made:
+ * <ul>
+ *     <li>Bones (including their children) smaller than {@link #MIN_ANIMATED_BONE_SIZE} skip keyframe evaluation, and hold their last pose</li>
+ *     <li>Bones whose own cubes are smaller than {@link #MIN_RENDERED_BONE_SIZE} don't render their cubes. Their children are still rendered</li>
+ *     <li>Models smaller than {@link #REDUCED_MODEL_SIZE} are swapped for their reduced variant, if one exists</li>
+ * </ul>
+ * A reduced variant is declared by adding a model with the same name, suffixed with {@code .lod1}, alongside the original.
+ * E.G. {@code geo/entity/bat.lod1.geo.json} for {@code geo/entity/bat.geo.json}<br>
+ * Its bones should use the same names as the original model, so that animations and bone state carry over.
+ * <p>
+ * <b><u>This is disabled by default</u></b>, as it changes how distant animatables look. Enable it via {@link #ENABLED}
+ * <p>
+ * Level-of-detail is only applied while the level is being rendered, and only for renderers that provide it via {@link GeoRenderer#getBoneLod}
+ *
+ * @param distance The distance (in blocks) between the camera and the animatable
+ * @param screenScale The on-screen size (in pixels) of one block, at a distance of one block from the camera
+ * @param renderScale The scale the renderer applies to the model
+ */
+public record BoneLod(double distance, float screenScale, float renderScale) {
+	/**
+	 * Whether level-of-detail reductions are enabled
+	 */
+	public static boolean ENABLED = false;
+	/**
+	 * The minimum on-screen size (in pixels) a bone and its children must be to be animated
+	 */
+	public static float MIN_ANIMATED_BONE_SIZE = 3;
+	/**
+	 * The minimum on-screen size (in pixels) a bone's cubes must be to be rendered
+	 */
+	public static float MIN_RENDERED_BONE_SIZE = 1;
+	/**
+	 * The on-screen size (in pixels) below which a model is swapped for its reduced variant, if it has one
+	 */
+	public static float REDUCED_MODEL_SIZE = 48;
+
+	private static boolean levelRendering = false;
+	@Nullable
+	private static BoneLod rendering = null;
+
+	/**
+	 * Create a new BoneLod for an animatable at the given distance from the camera
+	 *
+	 * @param distance The distance (in blocks) between the camera and the animatable
+	 * @param renderScale The scale the renderer applies to the model
+	 * @return The BoneLod, or null if level-of-detail shouldn't be applied
+	 */
+	@Nullable
+	public static BoneLod forDistance(double distance, float renderScale) {
+		if (!ENABLED || !levelRendering || distance <= 0)
+			return null;
+
+		Minecraft mc = Minecraft.getInstance();
+		double halfFov = Math.toRadians(mc.options.fov().get()) / 2d;
+
+		return new BoneLod(distance, (float)(mc.getWindow().getHeight() / (2 * Math.tan(halfFov))), renderScale);
+	}
+
+	/**
+	 * @return The on-screen size (in pixels) of one block of the model, at the animatable's distance
+	 */
+	public float pixelsPerBlock() {
+		return (float)(this.screenScale * this.renderScale / this.distance);
+	}
+
+	/**
+	 * Whether the given bone should have its animations computed, or hold its last pose
+	 * <p>
+	 * Bones with no cubes of their own or in their children are always animated, as they may be used as locators
+	 */
+	public boolean shouldAnimate(GeoBone bone) {
+		float extent = bone.getBoundingExtent();
+
+		return extent <= 0 || extent * pixelsPerBlock() >= MIN_ANIMATED_BONE_SIZE;
+	}
+
+	/**
+	 * Whether the given bone's cubes should be rendered, based on their size at the bone's current position and scale
+	 *
+	 * @param bone The bone to check
+	 * @param pose The camera-relative pose of the bone
+	 */
+	public boolean shouldRenderCubes(GeoBone bone, Matrix4f pose) {
+		float extent = bone.getCubeExtent();
+
+		if (extent <= 0)
+			return true;
+
+		float pivotX = bone.getPivotX() / 16f;
+		float pivotY = bone.getPivotY() / 16f;
+		float pivotZ = bone.getPivotZ() / 16f;
+		float x = pose.m00() * pivotX + pose.m10() * pivotY + pose.m20() * pivotZ + pose.m30();
+		float y = pose.m01() * pivotX + pose.m11() * pivotY + pose.m21() * pivotZ + pose.m31();
+		float z = pose.m02() * pivotX + pose.m12() * pivotY + pose.m22() * pivotZ + pose.m32();
+		float distanceSqr = x * x + y * y + z * z;
+
+		if (distanceSqr < 1)
+			return true;
+
+		float scaleSqr = Math.max(pose.m00() * pose.m00() + pose.m01() * pose.m01() + pose.m02() * pose.m02(),
+				Math.max(pose.m10() * pose.m10() + pose.m11() * pose.m11() + pose.m12() * pose.m12(),
+						pose.m20() * pose.m20() + pose.m21() * pose.m21() + pose.m22() * pose.m22()));
+
+		return extent * this.screenScale * (float)Math.sqrt(scaleSqr / distanceSqr) >= MIN_RENDERED_BONE_SIZE;
+	}
+
+	/**
+	 * Get the model resource to render for this level of detail
+	 *
+	 * @param modelResource The full-detail model resource
+	 * @return The reduced variant of the model if it has one and is small enough on-screen, otherwise the provided model resource
+	 */
+	public ResourceLocation selectModel(ResourceLocation modelResource) {
+		ResourceLocation variant = GeckoLibCache.getLodVariant(modelResource);
+
+		if (variant == null)
+			return modelResource;
+
+		BakedGeoModel model = GeckoLibCache.getBakedModels().get(modelResource);
+
+		return model != null && model.getExtent() * pixelsPerBlock() < REDUCED_MODEL_SIZE ? variant : modelResource;
+	}
+
+	/**
+	 * @return The BoneLod for the animatable currently being rendered, or null if none
+	 */
+	@Nullable
+	public static BoneLod getRendering() {
+		return rendering;
+	}
+
+	/**
+	 * Set the BoneLod for the animatable currently being rendered
+	 *
+	 * @return The previously set BoneLod, to be restored when the render is complete
+	 */
+	@ApiStatus.Internal
+	@Nullable
+	public static BoneLod setRendering(@Nullable BoneLod lod) {
+		BoneLod previous = rendering;
+		rendering = lod;
+
+		return previous;
+	}
+
+	/**
+	 * @return Whether the level is currently being rendered
+	 */
+	public static boolean isLevelRendering() {
+		return levelRendering;
+	}
+
+	/**
+	 * Mark whether the level is currently being rendered. Level-of-detail is not applied outside of level rendering (E.G. in GUIs)
+	 */
+	@ApiStatus.Internal
+	public static void setLevelRendering(boolean isRendering) {
+		levelRendering = isRendering;
+	}
+}
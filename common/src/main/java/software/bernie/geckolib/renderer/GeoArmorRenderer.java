@@ -23,6 +23,7 @@ import software.bernie.geckolib.GeckoLibServices;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.GeoItem;
 import software.bernie.geckolib.animation.AnimationState;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.DataTickets;
@@ -332,7 +333,7 @@ public class GeoArmorRenderer<T extends Item & GeoItem> extends HumanoidModel im
 		if (!isReRender) {
 			long instanceId = getInstanceId(animatable);
 
-			getGeoModel().handleAnimations(animatable, instanceId, createAnimationState(animatable, instanceId, 0, 0, partialTick, false), partialTick);
+			getGeoModel().handleAnimations(animatable, instanceId, createAnimationState(animatable, instanceId, 0, 0, partialTick, false), model, partialTick);
 		}
 
 		this.modelRenderTranslations = new Matrix4f(poseStack.last().pose());
@@ -387,11 +388,13 @@ public class GeoArmorRenderer<T extends Item & GeoItem> extends HumanoidModel im
 	@Override
 	public void renderRecursively(PoseStack poseStack, T animatable, GeoBone bone, RenderType renderType, MultiBufferSource bufferSource, VertexConsumer buffer, boolean isReRender, float partialTick, int packedLight,
 								  int packedOverlay, int renderColor) {
-		if (bone.isTrackingMatrices()) {
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		if (pose.isTrackingMatrices(bone.getIndex())) {
 			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
 
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
-			bone.setLocalSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.entityRenderTranslations));
+			pose.setModelSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
+			pose.setLocalSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.entityRenderTranslations));
 		}
 
 		GeoRenderer.super.renderRecursively(poseStack, animatable, bone, renderType, bufferSource, buffer, isReRender, partialTick, packedLight, packedOverlay, renderColor);
@@ -513,63 +516,70 @@ public class GeoArmorRenderer<T extends Item & GeoItem> extends HumanoidModel im
 			bone = currentSlot == EquipmentSlot.FEET ? this.rightBoot : this.rightLeg;
 		}
 
-		if (bone != null)
-			bone.setHidden(false);
+		BonePoseBuffer pose = getCurrentPose();
+
+		if (bone != null && pose != null)
+			pose.setHidden(bone.getIndex(), false);
 	}
 
 	/**
 	 * Transform the currently rendering {@link GeoModel} to match the positions and rotations of the base model
 	 */
 	protected void applyBaseTransformations(HumanoidModel<?> baseModel) {
+		BonePoseBuffer pose = getCurrentPose();
+
+		if (pose == null)
+			return;
+
 		if (this.head != null) {
 			ModelPart headPart = baseModel.head;
 
-			RenderUtil.matchModelPartRot(headPart, this.head);
-			this.head.updatePosition(headPart.x, -headPart.y, headPart.z);
+			RenderUtil.matchModelPartRot(headPart, pose, this.head);
+			pose.updatePosition(this.head.getIndex(), headPart.x, -headPart.y, headPart.z);
 		}
 
 		if (this.body != null) {
 			ModelPart bodyPart = baseModel.body;
 
-			RenderUtil.matchModelPartRot(bodyPart, this.body);
-			this.body.updatePosition(bodyPart.x, -bodyPart.y, bodyPart.z);
+			RenderUtil.matchModelPartRot(bodyPart, pose, this.body);
+			pose.updatePosition(this.body.getIndex(), bodyPart.x, -bodyPart.y, bodyPart.z);
 		}
 
 		if (this.rightArm != null) {
 			ModelPart rightArmPart = baseModel.rightArm;
 
-			RenderUtil.matchModelPartRot(rightArmPart, this.rightArm);
-			this.rightArm.updatePosition(rightArmPart.x + 5, 2 - rightArmPart.y, rightArmPart.z);
+			RenderUtil.matchModelPartRot(rightArmPart, pose, this.rightArm);
+			pose.updatePosition(this.rightArm.getIndex(), rightArmPart.x + 5, 2 - rightArmPart.y, rightArmPart.z);
 		}
 
 		if (this.leftArm != null) {
 			ModelPart leftArmPart = baseModel.leftArm;
 
-			RenderUtil.matchModelPartRot(leftArmPart, this.leftArm);
-			this.leftArm.updatePosition(leftArmPart.x - 5f, 2f - leftArmPart.y, leftArmPart.z);
+			RenderUtil.matchModelPartRot(leftArmPart, pose, this.leftArm);
+			pose.updatePosition(this.leftArm.getIndex(), leftArmPart.x - 5f, 2f - leftArmPart.y, leftArmPart.z);
 		}
 
 		if (this.rightLeg != null) {
 			ModelPart rightLegPart = baseModel.rightLeg;
 
-			RenderUtil.matchModelPartRot(rightLegPart, this.rightLeg);
-			this.rightLeg.updatePosition(rightLegPart.x + 2, 12 - rightLegPart.y, rightLegPart.z);
+			RenderUtil.matchModelPartRot(rightLegPart, pose, this.rightLeg);
+			pose.updatePosition(this.rightLeg.getIndex(), rightLegPart.x + 2, 12 - rightLegPart.y, rightLegPart.z);
 
 			if (this.rightBoot != null) {
-				RenderUtil.matchModelPartRot(rightLegPart, this.rightBoot);
-				this.rightBoot.updatePosition(rightLegPart.x + 2, 12 - rightLegPart.y, rightLegPart.z);
+				RenderUtil.matchModelPartRot(rightLegPart, pose, this.rightBoot);
+				pose.updatePosition(this.rightBoot.getIndex(), rightLegPart.x + 2, 12 - rightLegPart.y, rightLegPart.z);
 			}
 		}
 
 		if (this.leftLeg != null) {
 			ModelPart leftLegPart = baseModel.leftLeg;
 
-			RenderUtil.matchModelPartRot(leftLegPart, this.leftLeg);
-			this.leftLeg.updatePosition(leftLegPart.x - 2, 12 - leftLegPart.y, leftLegPart.z);
+			RenderUtil.matchModelPartRot(leftLegPart, pose, this.leftLeg);
+			pose.updatePosition(this.leftLeg.getIndex(), leftLegPart.x - 2, 12 - leftLegPart.y, leftLegPart.z);
 
 			if (this.leftBoot != null) {
-				RenderUtil.matchModelPartRot(leftLegPart, this.leftBoot);
-				this.leftBoot.updatePosition(leftLegPart.x - 2, 12 - leftLegPart.y, leftLegPart.z);
+				RenderUtil.matchModelPartRot(leftLegPart, pose, this.leftBoot);
+				pose.updatePosition(this.leftBoot.getIndex(), leftLegPart.x - 2, 12 - leftLegPart.y, leftLegPart.z);
 			}
 		}
 	}
@@ -619,7 +629,30 @@ public class GeoArmorRenderer<T extends Item & GeoItem> extends HumanoidModel im
 		if (bone == null)
 			return;
 
-		bone.setHidden(!visible);
+		BonePoseBuffer pose = getCurrentPose();
+
+		if (pose != null)
+			pose.setHidden(bone.getIndex(), !visible);
+	}
+
+	/**
+	 * Gets the {@link BonePoseBuffer pose} of the armor piece currently being prepared or rendered, for the last model its bones were grabbed from
+	 * <p>
+	 * This is available before {@link #defaultRender} is called, so that bone visibility can be set ahead of rendering
+	 *
+	 * @return The pose, or null if no armor piece is being prepared
+	 */
+	@Nullable
+	protected BonePoseBuffer getCurrentPose() {
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		if (pose != null && pose.getModel() == this.lastModel)
+			return pose;
+
+		if (this.animatable == null || this.lastModel == null)
+			return null;
+
+		return getBonePose(this.animatable, this.lastModel);
 	}
 
 	/**
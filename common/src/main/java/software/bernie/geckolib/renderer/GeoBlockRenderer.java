@@ -3,6 +3,7 @@ package software.bernie.geckolib.renderer;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
@@ -12,6 +13,7 @@ import net.minecraft.world.level.block.DirectionalBlock;
 import net.minecraft.world.level.block.HorizontalDirectionalBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
@@ -19,6 +21,7 @@ import org.joml.Vector3f;
 import software.bernie.geckolib.GeckoLibServices;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animation.AnimationState;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.DataTickets;
@@ -124,6 +127,27 @@ public class GeoBlockRenderer<T extends BlockEntity & GeoAnimatable> implements
 		scaleModelForRender(this.scaleWidth, this.scaleHeight, poseStack, animatable, model, isReRender, partialTick, packedLight, packedOverlay);
 	}
 
+	/**
+	 * Gets the {@link BoneLod level-of-detail} information for the given animatable for the current render frame
+	 * <p>
+	 * Based on the block's {@link #getCameraDistance distance from the camera} by default
+	 */
+	@Nullable
+	@Override
+	public BoneLod getBoneLod(T animatable, float partialTick) {
+		return BoneLod.forDistance(getCameraDistance(animatable, partialTick), Math.max(this.scaleWidth, this.scaleHeight));
+	}
+
+	/**
+	 * Gets the distance (in blocks) between the camera and the given animatable for the current render frame
+	 */
+	@Override
+	public double getCameraDistance(T animatable, float partialTick) {
+		Vec3 cameraPos = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+
+		return Math.sqrt(animatable.getBlockPos().distToCenterSqr(cameraPos));
+	}
+
 	@Override
 	@ApiStatus.Internal
 	public void render(T animatable, float partialTick, PoseStack poseStack, MultiBufferSource bufferSource,
@@ -146,7 +170,7 @@ public class GeoBlockRenderer<T extends BlockEntity & GeoAnimatable> implements
 			long instanceId = getInstanceId(animatable);
 
 			rotateBlock(getFacing(animatable), poseStack);
-			getGeoModel().handleAnimations(animatable, instanceId, createAnimationState(animatable, instanceId, 0, 0, partialTick, false), partialTick);
+			getGeoModel().handleAnimations(animatable, instanceId, createAnimationState(animatable, instanceId, 0, 0, partialTick, false), model, partialTick);
 		}
 
 		this.modelRenderTranslations = new Matrix4f(poseStack.last().pose());
@@ -187,15 +211,17 @@ public class GeoBlockRenderer<T extends BlockEntity & GeoAnimatable> implements
 	@Override
 	public void renderRecursively(PoseStack poseStack, T animatable, GeoBone bone, RenderType renderType, MultiBufferSource bufferSource, VertexConsumer buffer, boolean isReRender, float partialTick, int packedLight,
 								  int packedOverlay, int renderColor) {
-		if (bone.isTrackingMatrices()) {
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		if (pose.isTrackingMatrices(bone.getIndex())) {
 			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
 			Matrix4f localMatrix = RenderUtil.invertAndMultiplyMatrices(poseState, this.blockRenderTranslations);
 			Matrix4f worldState = new Matrix4f(localMatrix);
 			BlockPos pos = this.animatable.getBlockPos();
 
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
-			bone.setLocalSpaceMatrix(localMatrix);
-			bone.setWorldSpaceMatrix(worldState.translate(new Vector3f(pos.getX(), pos.getY(), pos.getZ())));
+			pose.setModelSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
+			pose.setLocalSpaceMatrix(bone.getIndex(), localMatrix);
+			pose.setWorldSpaceMatrix(bone.getIndex(), worldState.translate(new Vector3f(pos.getX(), pos.getY(), pos.getZ())));
 		}
 
 		GeoRenderer.super.renderRecursively(poseStack, animatable, bone, renderType, bufferSource, buffer, isReRender, partialTick, packedLight, packedOverlay,
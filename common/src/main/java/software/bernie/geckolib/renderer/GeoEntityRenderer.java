@@ -26,7 +26,9 @@ import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import software.bernie.geckolib.GeckoLibServices;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.AnimationPrePass;
 import software.bernie.geckolib.animation.AnimationState;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.constant.DataTickets;
@@ -147,6 +149,25 @@ public class GeoEntityRenderer<T extends Entity & GeoAnimatable> extends EntityR
 		return color;
 	}
 
+	/**
+	 * Gets the {@link BoneLod level-of-detail} information for the given animatable for the current render frame
+	 * <p>
+	 * Based on the entity's {@link #getCameraDistance distance from the camera} by default
+	 */
+	@Nullable
+	@Override
+	public BoneLod getBoneLod(T animatable, float partialTick) {
+		return BoneLod.forDistance(getCameraDistance(animatable, partialTick), Math.max(this.scaleWidth, this.scaleHeight));
+	}
+
+	/**
+	 * Gets the distance (in blocks) between the camera and the given animatable for the current render frame
+	 */
+	@Override
+	public double getCameraDistance(T animatable, float partialTick) {
+		return Math.sqrt(this.entityRenderDispatcher.distanceToSqr(animatable));
+	}
+
 	/**
 	 * Gets the {@link RenderType} to render the given animatable with
 	 * <p>
@@ -199,22 +220,7 @@ public class GeoEntityRenderer<T extends Entity & GeoAnimatable> extends EntityR
 		poseStack.pushPose();
 
 		LivingEntity livingEntity = animatable instanceof LivingEntity entity ? entity : null;
-		boolean shouldSit = animatable.isPassenger() && (animatable.getVehicle() != null);
-		float lerpBodyRot = livingEntity == null ? 0 : Mth.rotLerp(partialTick, livingEntity.yBodyRotO, livingEntity.yBodyRot);
-		float lerpHeadRot = livingEntity == null ? 0 : Mth.rotLerp(partialTick, livingEntity.yHeadRotO, livingEntity.yHeadRot);
-		float netHeadYaw = lerpHeadRot - lerpBodyRot;
-
-		if (shouldSit && animatable.getVehicle() instanceof LivingEntity livingentity) {
-			lerpBodyRot = Mth.rotLerp(partialTick, livingentity.yBodyRotO, livingentity.yBodyRot);
-			netHeadYaw = lerpHeadRot - lerpBodyRot;
-			float clampedHeadYaw = Mth.clamp(Mth.wrapDegrees(netHeadYaw), -85, 85);
-			lerpBodyRot = lerpHeadRot - clampedHeadYaw;
-
-			if (clampedHeadYaw * clampedHeadYaw > 2500f)
-				lerpBodyRot += clampedHeadYaw * 0.2f;
-
-			netHeadYaw = lerpHeadRot - lerpBodyRot;
-		}
+		EntityRotations rotations = getEntityRotations(animatable, partialTick);
 
 		if (animatable.getPose() == Pose.SLEEPING && livingEntity != null) {
 			Direction bedDirection = livingEntity.getBedOrientation();
@@ -228,13 +234,39 @@ public class GeoEntityRenderer<T extends Entity & GeoAnimatable> extends EntityR
 
 		float nativeScale = livingEntity != null ? livingEntity.getScale() : 1;
 		float ageInTicks = animatable.tickCount + partialTick;
-		float limbSwingAmount = 0;
-		float limbSwing = 0;
 
 		poseStack.scale(nativeScale, nativeScale, nativeScale);
-		applyRotations(animatable, poseStack, ageInTicks, lerpBodyRot, partialTick, nativeScale);
+		applyRotations(animatable, poseStack, ageInTicks, rotations.bodyYaw(), partialTick, nativeScale);
+
+		if (!isReRender) {
+			long instanceId = getInstanceId(animatable);
+
+			getGeoModel().handleAnimations(animatable, instanceId, createFrameAnimationState(animatable, instanceId, partialTick), model, partialTick);
+		}
+
+		poseStack.translate(0, 0.01f, 0);
+
+		this.modelRenderTranslations = new Matrix4f(poseStack.last().pose());
+
+		if (buffer != null)
+			GeoRenderer.super.actuallyRender(poseStack, animatable, model, renderType, bufferSource, buffer, isReRender, partialTick,
+					packedLight, packedOverlay, renderColor);
+
+		poseStack.popPose();
+	}
 
-		if (!shouldSit && animatable.isAlive() && livingEntity != null) {
+	/**
+	 * Build the fully-populated {@link AnimationState} for the given entity for the current render frame, including its movement and {@link EntityModelData}
+	 * <p>
+	 * This does not depend on any of the renderer's per-render state, so it is safe to call outside of the render call (such as from the {@link AnimationPrePass})
+	 */
+	public AnimationState<T> createFrameAnimationState(T animatable, long instanceId, float partialTick) {
+		LivingEntity livingEntity = animatable instanceof LivingEntity entity ? entity : null;
+		EntityRotations rotations = getEntityRotations(animatable, partialTick);
+		float limbSwingAmount = 0;
+		float limbSwing = 0;
+
+		if (!rotations.shouldSit() && animatable.isAlive() && livingEntity != null) {
 			limbSwingAmount = livingEntity.walkAnimation.speed(partialTick);
 			limbSwing = livingEntity.walkAnimation.position(partialTick);
 
@@ -245,27 +277,41 @@ public class GeoEntityRenderer<T extends Entity & GeoAnimatable> extends EntityR
 				limbSwingAmount = 1f;
 		}
 
-		if (!isReRender) {
-			float motionThreshold = getMotionAnimThreshold(animatable);
-			Vec3 velocity = animatable.getDeltaMovement();
-			float avgVelocity = (float)((Math.abs(velocity.x) + Math.abs(velocity.z)) / 2f);
-			float headPitch = Mth.lerp(partialTick, animatable.xRotO, animatable.getXRot());
-			long instanceId = getInstanceId(animatable);
-			AnimationState<T> animationState = createAnimationState(animatable, instanceId, limbSwing, limbSwingAmount, partialTick, avgVelocity >= motionThreshold && limbSwingAmount != 0);
+		float motionThreshold = getMotionAnimThreshold(animatable);
+		Vec3 velocity = animatable.getDeltaMovement();
+		float avgVelocity = (float)((Math.abs(velocity.x) + Math.abs(velocity.z)) / 2f);
+		AnimationState<T> animationState = createAnimationState(animatable, instanceId, limbSwing, limbSwingAmount, partialTick, avgVelocity >= motionThreshold && limbSwingAmount != 0);
 
-			animationState.setData(DataTickets.ENTITY_MODEL_DATA, new EntityModelData(shouldSit, livingEntity != null && livingEntity.isBaby(), -netHeadYaw, -headPitch));
-			getGeoModel().handleAnimations(animatable, instanceId, animationState, partialTick);
-		}
+		animationState.setData(DataTickets.ENTITY_MODEL_DATA, new EntityModelData(rotations.shouldSit(), livingEntity != null && livingEntity.isBaby(), -rotations.netHeadYaw(), -rotations.headPitch()));
 
-		poseStack.translate(0, 0.01f, 0);
+		return animationState;
+	}
 
-		this.modelRenderTranslations = new Matrix4f(poseStack.last().pose());
+	/**
+	 * Compute the interpolated body and head rotations of the given entity for the current render frame, accounting for it riding another entity
+	 */
+	protected EntityRotations getEntityRotations(T animatable, float partialTick) {
+		LivingEntity livingEntity = animatable instanceof LivingEntity entity ? entity : null;
+		boolean shouldSit = animatable.isPassenger() && (animatable.getVehicle() != null);
+		float lerpBodyRot = livingEntity == null ? 0 : Mth.rotLerp(partialTick, livingEntity.yBodyRotO, livingEntity.yBodyRot);
+		float lerpHeadRot = livingEntity == null ? 0 : Mth.rotLerp(partialTick, livingEntity.yHeadRotO, livingEntity.yHeadRot);
+		float netHeadYaw = lerpHeadRot - lerpBodyRot;
 
-		if (buffer != null)
-			GeoRenderer.super.actuallyRender(poseStack, animatable, model, renderType, bufferSource, buffer, isReRender, partialTick,
-					packedLight, packedOverlay, renderColor);
+		if (shouldSit && animatable.getVehicle() instanceof LivingEntity livingentity) {
+			lerpBodyRot = Mth.rotLerp(partialTick, livingentity.yBodyRotO, livingentity.yBodyRot);
+			netHeadYaw = lerpHeadRot - lerpBodyRot;
+			float clampedHeadYaw = Mth.clamp(Mth.wrapDegrees(netHeadYaw), -85, 85);
+			lerpBodyRot = lerpHeadRot - clampedHeadYaw;
 
-		poseStack.popPose();
+			if (clampedHeadYaw * clampedHeadYaw > 2500f)
+				lerpBodyRot += clampedHeadYaw * 0.2f;
+
+			netHeadYaw = lerpHeadRot - lerpBodyRot;
+		}
+
+		float headPitch = Mth.lerp(partialTick, animatable.xRotO, animatable.getXRot());
+
+		return new EntityRotations(shouldSit, lerpBodyRot, netHeadYaw, headPitch);
 	}
 
 	/**
@@ -328,13 +374,15 @@ public class GeoEntityRenderer<T extends Entity & GeoAnimatable> extends EntityR
 		RenderUtil.rotateMatrixAroundBone(poseStack, bone);
 		RenderUtil.scaleMatrixForBone(poseStack, bone);
 
-		if (bone.isTrackingMatrices()) {
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		if (pose.isTrackingMatrices(bone.getIndex())) {
 			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
 			Matrix4f localMatrix = RenderUtil.invertAndMultiplyMatrices(poseState, this.entityRenderTranslations);
 
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
-			bone.setLocalSpaceMatrix(RenderUtil.translateMatrix(localMatrix, getRenderOffset(getEntityRenderState()).toVector3f()));
-			bone.setWorldSpaceMatrix(RenderUtil.translateMatrix(new Matrix4f(localMatrix), this.animatable.position().toVector3f()));
+			pose.setModelSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
+			pose.setLocalSpaceMatrix(bone.getIndex(), RenderUtil.translateMatrix(localMatrix, getRenderOffset(getEntityRenderState()).toVector3f()));
+			pose.setWorldSpaceMatrix(bone.getIndex(), RenderUtil.translateMatrix(new Matrix4f(localMatrix), this.animatable.position().toVector3f()));
 		}
 
 		RenderUtil.translateAwayFromPivotPoint(poseStack, bone);
@@ -543,4 +591,14 @@ public class GeoEntityRenderer<T extends Entity & GeoAnimatable> extends EntityR
 	public void firePostRenderEvent(PoseStack poseStack, BakedGeoModel model, MultiBufferSource bufferSource, float partialTick, int packedLight) {
 		GeckoLibServices.Client.EVENTS.fireEntityPostRender(this, poseStack, model, bufferSource, partialTick, packedLight);
 	}
+
+	/**
+	 * The interpolated rotations of an entity for a render frame
+	 *
+	 * @param shouldSit Whether the entity is riding another entity
+	 * @param bodyYaw The entity's body rotation, in degrees
+	 * @param netHeadYaw The entity's head rotation relative to its body, in degrees
+	 * @param headPitch The entity's head pitch, in degrees
+	 */
+	public record EntityRotations(boolean shouldSit, float bodyYaw, float netHeadYaw, float headPitch) {}
 }
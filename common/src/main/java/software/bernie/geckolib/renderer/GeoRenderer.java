@@ -15,14 +15,17 @@ import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.joml.Vector4f;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animation.AnimationState;
+import software.bernie.geckolib.animation.AnimationThrottle;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.*;
+import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.loading.math.MolangQueries;
 import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.object.Color;
 import software.bernie.geckolib.renderer.layer.GeoRenderLayer;
+import software.bernie.geckolib.util.DirectVertexWriter;
 import software.bernie.geckolib.util.RenderUtil;
 
 import java.util.List;
@@ -117,6 +120,26 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 		return 0.015f;
 	}
 
+	/**
+	 * Gets the {@link BoneLod level-of-detail} information for the given animatable for the current render frame
+	 * <p>
+	 * Returns null by default, meaning the animatable is always animated and rendered in full detail
+	 */
+	@Nullable
+	default BoneLod getBoneLod(T animatable, float partialTick) {
+		return null;
+	}
+
+	/**
+	 * Gets the distance (in blocks) between the camera and the given animatable for the current render frame
+	 * <p>
+	 * Used for {@link BoneLod level-of-detail} and {@link AnimationThrottle animation throttling}.<br>
+	 * Returns -1 by default, meaning the distance is unknown and neither is applied
+	 */
+	default double getCameraDistance(T animatable, float partialTick) {
+		return -1;
+	}
+
 	/**
 	 * Initial access point for rendering. It all begins here
 	 * <p>
@@ -124,49 +147,86 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 	 */
 	default void defaultRender(PoseStack poseStack, T animatable, MultiBufferSource bufferSource, @Nullable RenderType renderType, @Nullable VertexConsumer buffer,
 							   float partialTick, int packedLight) {
-		poseStack.pushPose();
+		BoneLod previousLod = BoneLod.setRendering(getBoneLod(animatable, partialTick));
+		BonePoseBuffer previousPose = BonePoseBuffer.getRendering();
 
-		int renderColor = getRenderColor(animatable, partialTick, packedLight).argbInt();
-		int packedOverlay = getPackedOverlay(animatable, 0, partialTick);
-		BakedGeoModel model = getGeoModel().getBakedModel(getGeoModel().getModelResource(animatable, this));
+		try {
+			poseStack.pushPose();
 
-		if (renderType == null)
-			renderType = getRenderType(animatable, getTextureLocation(animatable), bufferSource, partialTick);
+			int renderColor = getRenderColor(animatable, partialTick, packedLight).argbInt();
+			int packedOverlay = getPackedOverlay(animatable, 0, partialTick);
+			BoneLod lod = BoneLod.getRendering();
+			ResourceLocation modelResource = getGeoModel().getModelResource(animatable, this);
+			BakedGeoModel model = getGeoModel().getBakedModel(lod == null ? modelResource : lod.selectModel(modelResource));
 
-		if (buffer == null && renderType != null)
-			buffer = bufferSource.getBuffer(renderType);
+			BonePoseBuffer.setRendering(getBonePose(animatable, model));
 
-		preRender(poseStack, animatable, model, bufferSource, buffer, false, partialTick, packedLight, packedOverlay, renderColor);
+			if (renderType == null)
+				renderType = getRenderType(animatable, getTextureLocation(animatable), bufferSource, partialTick);
 
-		if (firePreRenderEvent(poseStack, model, bufferSource, partialTick, packedLight)) {
-			preApplyRenderLayers(poseStack, animatable, model, renderType, bufferSource, buffer, packedLight, packedLight, packedOverlay, renderColor);
-			actuallyRender(poseStack, animatable, model, renderType,
-					bufferSource, buffer, false, partialTick, packedLight, packedOverlay, renderColor);
-			applyRenderLayers(poseStack, animatable, model, renderType, bufferSource, buffer, partialTick, packedLight, packedOverlay, renderColor);
-			postRender(poseStack, animatable, model, bufferSource, buffer, false, partialTick, packedLight, packedOverlay, renderColor);
-			firePostRenderEvent(poseStack, model, bufferSource, partialTick, packedLight);
-		}
+			if (buffer == null && renderType != null)
+				buffer = bufferSource.getBuffer(renderType);
 
-		poseStack.popPose();
+			preRender(poseStack, animatable, model, bufferSource, buffer, false, partialTick, packedLight, packedOverlay, renderColor);
+
+			if (firePreRenderEvent(poseStack, model, bufferSource, partialTick, packedLight)) {
+				preApplyRenderLayers(poseStack, animatable, model, renderType, bufferSource, buffer, packedLight, packedLight, packedOverlay, renderColor);
+				actuallyRender(poseStack, animatable, model, renderType,
+						bufferSource, buffer, false, partialTick, packedLight, packedOverlay, renderColor);
+				applyRenderLayers(poseStack, animatable, model, renderType, bufferSource, buffer, partialTick, packedLight, packedOverlay, renderColor);
+				postRender(poseStack, animatable, model, bufferSource, buffer, false, partialTick, packedLight, packedOverlay, renderColor);
+				firePostRenderEvent(poseStack, model, bufferSource, partialTick, packedLight);
+			}
+
+			poseStack.popPose();
+
+			renderFinal(poseStack, animatable, model, bufferSource, buffer, partialTick, packedLight, packedOverlay, renderColor);
+		}
+		finally {
+			BoneLod.setRendering(previousLod);
+			BonePoseBuffer.setRendering(previousPose);
+		}
 
-		renderFinal(poseStack, animatable, model, bufferSource, buffer, partialTick, packedLight, packedOverlay, renderColor);
 		doPostRenderCleanup();
 		MolangQueries.clearActor();
 	}
 
+	/**
+	 * Gets the {@link BonePoseBuffer pose} to render the given animatable with, prepared for the given model
+	 * <p>
+	 * By default, this is the pose held by the animatable's {@link software.bernie.geckolib.animation.AnimatableManager AnimatableManager}
+	 */
+	default BonePoseBuffer getBonePose(T animatable, BakedGeoModel model) {
+		BonePoseBuffer pose = animatable.getAnimatableInstanceCache().getManagerForId(getInstanceId(animatable)).getPose();
+
+		pose.prepare(model);
+
+		return pose;
+	}
+
 	/**
 	 * Re-renders the provided {@link BakedGeoModel} using the existing {@link GeoRenderer}
 	 * <p>
 	 * Usually you'd use this for rendering alternate {@link RenderType} layers or for sub-model rendering whilst inside a {@link GeoRenderLayer} or similar
+	 * <p>
+	 * If the provided model isn't the one the {@link BonePoseBuffer#getRendering() current pose} belongs to, it is rendered in its rest pose
 	 */
 	default void reRender(BakedGeoModel model, PoseStack poseStack, MultiBufferSource bufferSource, T animatable,
 						  RenderType renderType, VertexConsumer buffer, float partialTick,
 						  int packedLight, int packedOverlay, int renderColor) {
-		poseStack.pushPose();
-		preRender(poseStack, animatable, model, bufferSource, buffer, true, partialTick, packedLight, packedOverlay, renderColor);
-		actuallyRender(poseStack, animatable, model, renderType, bufferSource, buffer, true, partialTick, packedLight, packedOverlay, renderColor);
-		postRender(poseStack, animatable, model, bufferSource, buffer, true, partialTick, packedLight, packedOverlay, renderColor);
-		poseStack.popPose();
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+		BonePoseBuffer previousPose = pose == null || pose.getModel() != model ? BonePoseBuffer.setRendering(BonePoseBuffer.forModel(model)) : pose;
+
+		try {
+			poseStack.pushPose();
+			preRender(poseStack, animatable, model, bufferSource, buffer, true, partialTick, packedLight, packedOverlay, renderColor);
+			actuallyRender(poseStack, animatable, model, renderType, bufferSource, buffer, true, partialTick, packedLight, packedOverlay, renderColor);
+			postRender(poseStack, animatable, model, bufferSource, buffer, true, partialTick, packedLight, packedOverlay, renderColor);
+			poseStack.popPose();
+		}
+		finally {
+			BonePoseBuffer.setRendering(previousPose);
+		}
 	}
 
 	/**
@@ -254,6 +314,8 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 
 	/**
 	 * Renders the provided {@link GeoBone} and its associated child bones
+	 * <p>
+	 * The bone is rendered in the {@link BonePoseBuffer#getRendering() pose currently being rendered}
 	 */
 	default void renderRecursively(PoseStack poseStack, T animatable, GeoBone bone, RenderType renderType, MultiBufferSource bufferSource,
 								   VertexConsumer buffer, boolean isReRender, float partialTick, int packedLight,
@@ -274,12 +336,29 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 
 	/**
 	 * Renders the {@link GeoCube GeoCubes} associated with a given {@link GeoBone}
+	 * <p>
+	 * Bones too small on-screen to be seen are skipped, as determined by the current {@link BoneLod}
 	 */
 	default void renderCubesOfBone(PoseStack poseStack, GeoBone bone, VertexConsumer buffer, int packedLight,
 								   int packedOverlay, int renderColor) {
-		if (bone.isHidden())
+		if (BonePoseBuffer.getRendering().isHidden(bone.getIndex()))
+			return;
+
+		BoneLod lod = BoneLod.getRendering();
+
+		if (lod != null && !lod.shouldRenderCubes(bone, poseStack.last().pose()))
 			return;
 
+		if (PackedCubes.ENABLED && RenderUtil.usesDefaultCubeRendering(this)) {
+			PackedCubes packedCubes = BonePoseBuffer.getRendering().getModel().getPackedCubes(bone);
+
+			if (packedCubes != null) {
+				renderPackedCubes(poseStack, packedCubes, buffer, packedLight, packedOverlay, renderColor);
+
+				return;
+			}
+		}
+
 		for (GeoCube cube : bone.getCubes()) {
 			poseStack.pushPose();
 			renderCube(poseStack, cube, buffer, packedLight, packedOverlay, renderColor);
@@ -287,6 +366,42 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 		}
 	}
 
+	/**
+	 * Renders a bone's cubes from its {@link PackedCubes packed} vertex data
+	 * <p>
+	 * This produces the same output as {@link #renderCube} for each cube, but reads all vertex data from a single array.<br>
+	 * The packed data is built when the model is baked, with each cube's rotation already applied, so the whole bone is rendered with the bone's pose alone.<br>
+	 * If the buffer is a compatible {@code BufferBuilder}, the whole bone is written {@link DirectVertexWriter directly} into its memory instead.<br>
+	 * Only used if this renderer doesn't override {@link #renderCube} or {@link #createVerticesOfQuad}
+	 */
+	default void renderPackedCubes(PoseStack poseStack, PackedCubes packedCubes, VertexConsumer buffer, int packedLight, int packedOverlay, int renderColor) {
+		if (DirectVertexWriter.writePackedCubes(buffer, packedCubes, poseStack.last(), renderColor, packedOverlay, packedLight))
+			return;
+
+		GeoCube[] cubes = packedCubes.cubes();
+		int[] quadOffsets = packedCubes.quadOffsets();
+		float[] vertexData = packedCubes.vertexData();
+		Matrix3f normalisedPoseState = poseStack.last().normal();
+		Matrix4f poseState = poseStack.last().pose();
+		Vector3f normal = RenderUtil.getScratchNormal();
+
+		for (int i = 0; i < cubes.length; i++) {
+			GeoCube cube = cubes[i];
+
+			for (int quad = quadOffsets[i]; quad < quadOffsets[i + 1]; quad++) {
+				int index = quad * PackedCubes.QUAD_STRIDE;
+
+				normalisedPoseState.transform(vertexData[index], vertexData[index + 1], vertexData[index + 2], normal);
+				RenderUtil.fixInvertedFlatCube(cube, normal);
+
+				for (index += 3; index < (quad + 1) * PackedCubes.QUAD_STRIDE; index += PackedCubes.VERTEX_STRIDE) {
+					RenderUtil.addTransformedVertex(buffer, poseState, vertexData[index], vertexData[index + 1], vertexData[index + 2], renderColor,
+							vertexData[index + 3], vertexData[index + 4], packedOverlay, packedLight, normal);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Render the child bones of a given {@link GeoBone}
 	 * <p>
@@ -294,7 +409,7 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 	 */
 	default void renderChildBones(PoseStack poseStack, T animatable, GeoBone bone, RenderType renderType, MultiBufferSource bufferSource, VertexConsumer buffer,
 								  boolean isReRender, float partialTick, int packedLight, int packedOverlay, int renderColor) {
-		if (bone.isHidingChildren())
+		if (BonePoseBuffer.getRendering().isHidingChildren(bone.getIndex()))
 			return;
 
 		for (GeoBone childBone : bone.getChildBones()) {
@@ -306,6 +421,8 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 	 * Renders an individual {@link GeoCube}
 	 * <p>
 	 * This tends to be called recursively from something like {@link GeoRenderer#renderCubesOfBone}
+	 * <p>
+	 * The pose matrix and normal passed to {@link #createVerticesOfQuad} are reused between quads, and should not be retained or modified
 	 */
 	default void renderCube(PoseStack poseStack, GeoCube cube, VertexConsumer buffer, int packedLight,
 							int packedOverlay, int renderColor) {
@@ -314,14 +431,14 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 		RenderUtil.translateAwayFromPivotPoint(poseStack, cube);
 
 		Matrix3f normalisedPoseState = poseStack.last().normal();
-		Matrix4f poseState = new Matrix4f(poseStack.last().pose());
+		Matrix4f poseState = poseStack.last().pose();
+		Vector3f normal = RenderUtil.getScratchNormal();
 
 		for (GeoQuad quad : cube.quads()) {
 			if (quad == null)
 				continue;
 
-			Vector3f normal = normalisedPoseState.transform(new Vector3f(quad.normal()));
-			
+			normalisedPoseState.transform(quad.normal(), normal);
 			RenderUtil.fixInvertedFlatCube(cube, normal);
 			createVerticesOfQuad(quad, poseState, normal, buffer, packedLight, packedOverlay, renderColor);
 		}
@@ -333,11 +450,10 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 	default void createVerticesOfQuad(GeoQuad quad, Matrix4f poseState, Vector3f normal, VertexConsumer buffer,
 									  int packedLight, int packedOverlay, int renderColor) {
 		for (GeoVertex vertex : quad.vertices()) {
-			Vector3f position = vertex.position();			
-			Vector4f vector4f = poseState.transform(new Vector4f(position.x(), position.y(), position.z(), 1.0f));
+			Vector3f position = vertex.position();
 
-			buffer.addVertex(vector4f.x(), vector4f.y(), vector4f.z(), renderColor, vertex.texU(),
-					vertex.texV(), packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
+			RenderUtil.addTransformedVertex(buffer, poseState, position.x(), position.y(), position.z(), renderColor, vertex.texU(),
+					vertex.texV(), packedOverlay, packedLight, normal);
 		}
 	}
 
@@ -345,9 +461,23 @@ public interface GeoRenderer<T extends GeoAnimatable> {
 	 * Construct the {@link AnimationState} for the given render pass, ready to pass onto the {@link GeoModel} for handling.
 	 * <p>
 	 * Override this method to add additional {@link software.bernie.geckolib.constant.DataTickets data} to the AnimationState as needed
+	 * <p>
+	 * The {@link DataTickets#BONE_LOD level-of-detail} is taken from the {@link BoneLod#getRendering() current render}, rather than being re-computed.<br>
+	 * The {@link DataTickets#CAMERA_DISTANCE camera distance} is only added while the level is being rendered, and only if {@link AnimationThrottle#ENABLED throttling} is enabled
 	 */
 	default AnimationState<T> createAnimationState(T animatable, long instanceId, float limbSwing, float limbSwingAmount, float partialTick, boolean isMoving) {
 		AnimationState<T> animationState = new AnimationState<>(animatable, limbSwing, limbSwingAmount, partialTick, isMoving);
+		BoneLod lod = BoneLod.getRendering();
+
+		if (lod != null)
+			animationState.setData(DataTickets.BONE_LOD, lod);
+
+		if (AnimationThrottle.ENABLED && BoneLod.isLevelRendering()) {
+			double distance = getCameraDistance(animatable, partialTick);
+
+			if (distance > 0)
+				animationState.setData(DataTickets.CAMERA_DISTANCE, distance);
+		}
 
 		getGeoModel().addAdditionalStateData(animatable, instanceId, animationState::setData);
 
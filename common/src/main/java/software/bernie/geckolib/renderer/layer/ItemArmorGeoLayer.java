@@ -30,6 +30,7 @@ import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.GeckoLibServices;
 import software.bernie.geckolib.animatable.GeoAnimatable;
 import software.bernie.geckolib.animatable.GeoItem;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.BakedGeoModel;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.cache.object.GeoCube;
@@ -252,9 +253,11 @@ public class ItemArmorGeoLayer<T extends LivingEntity & GeoAnimatable> extends G
 				-(bone.getPivotY() - ((bone.getPivotY() * scaleY) - bone.getPivotY()) / scaleY),
 				(bone.getPivotZ() - ((bone.getPivotZ() * scaleZ) - bone.getPivotZ()) / scaleZ));
 
-		sourcePart.xRot = -bone.getRotX();
-		sourcePart.yRot = -bone.getRotY();
-		sourcePart.zRot = bone.getRotZ();
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		sourcePart.xRot = -pose.getRotX(bone.getIndex());
+		sourcePart.yRot = -pose.getRotY(bone.getIndex());
+		sourcePart.zRot = pose.getRotZ(bone.getIndex());
 
 		poseStack.scale(scaleX, scaleY, scaleZ);
 	}
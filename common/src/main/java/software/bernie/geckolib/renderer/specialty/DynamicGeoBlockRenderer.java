@@ -12,8 +12,8 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.joml.Vector4f;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.*;
 import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.GeoBlockRenderer;
@@ -87,15 +87,17 @@ public abstract class DynamicGeoBlockRenderer<T extends BlockEntity & GeoAnimata
 		RenderUtil.rotateMatrixAroundBone(poseStack, bone);
 		RenderUtil.scaleMatrixForBone(poseStack, bone);
 
-		if (bone.isTrackingMatrices()) {
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		if (pose.isTrackingMatrices(bone.getIndex())) {
 			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
 			Matrix4f localMatrix = RenderUtil.invertAndMultiplyMatrices(poseState, this.blockRenderTranslations);
 			Matrix4f worldState = new Matrix4f(localMatrix);
 			BlockPos pos = this.animatable.getBlockPos();
 
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
-			bone.setLocalSpaceMatrix(localMatrix);
-			bone.setWorldSpaceMatrix(worldState.translate(new Vector3f(pos.getX(), pos.getY(), pos.getZ())));
+			pose.setModelSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
+			pose.setLocalSpaceMatrix(bone.getIndex(), localMatrix);
+			pose.setWorldSpaceMatrix(bone.getIndex(), worldState.translate(new Vector3f(pos.getX(), pos.getY(), pos.getZ())));
 		}
 
 		RenderUtil.translateAwayFromPivotPoint(poseStack, bone);
@@ -164,12 +166,11 @@ public abstract class DynamicGeoBlockRenderer<T extends BlockEntity & GeoAnimata
 		}
 
 		for (GeoVertex vertex : quad.vertices()) {
-			Vector4f vector4f = poseState.transform(new Vector4f(vertex.position().x(), vertex.position().y(), vertex.position().z(), 1.0f));
 			float texU = (vertex.texU() * blockTextureSize.firstInt()) / boneTextureSize.firstInt();
 			float texV = (vertex.texV() * blockTextureSize.secondInt()) / boneTextureSize.secondInt();
 
-			buffer.addVertex(vector4f.x(), vector4f.y(), vector4f.z(), renderColor, texU, texV,
-					packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
+			RenderUtil.addTransformedVertex(buffer, poseState, vertex.position().x(), vertex.position().y(), vertex.position().z(), renderColor, texU, texV,
+					packedOverlay, packedLight, normal);
 		}
 	}
 
@@ -12,8 +12,8 @@ import net.minecraft.world.entity.Entity;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.joml.Vector4f;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.*;
 import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.GeoEntityRenderer;
@@ -87,18 +87,20 @@ public abstract class DynamicGeoEntityRenderer<T extends Entity & GeoAnimatable>
 		RenderUtil.rotateMatrixAroundBone(poseStack, bone);
 		RenderUtil.scaleMatrixForBone(poseStack, bone);
 
-		if (bone.isTrackingMatrices()) {
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		if (pose.isTrackingMatrices(bone.getIndex())) {
 			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
 			Matrix4f localMatrix = RenderUtil.invertAndMultiplyMatrices(poseState, this.entityRenderTranslations);
 
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
+			pose.setModelSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
 			localMatrix.translate(new Vector3f(getRenderOffset(getEntityRenderState()).toVector3f()));
-			bone.setLocalSpaceMatrix(localMatrix);
+			pose.setLocalSpaceMatrix(bone.getIndex(), localMatrix);
 
 			Matrix4f worldState = new Matrix4f(localMatrix);
 
 			worldState.translate(new Vector3f(this.animatable.position().toVector3f()));
-			bone.setWorldSpaceMatrix(worldState);
+			pose.setWorldSpaceMatrix(bone.getIndex(), worldState);
 		}
 
 		RenderUtil.translateAwayFromPivotPoint(poseStack, bone);
@@ -167,12 +169,11 @@ public abstract class DynamicGeoEntityRenderer<T extends Entity & GeoAnimatable>
 		}
 
 		for (GeoVertex vertex : quad.vertices()) {
-			Vector4f vector4f = poseState.transform(new Vector4f(vertex.position().x(), vertex.position().y(), vertex.position().z(), 1.0f));
 			float texU = (vertex.texU() * entityTextureSize.firstInt()) / boneTextureSize.firstInt();
 			float texV = (vertex.texV() * entityTextureSize.secondInt()) / boneTextureSize.secondInt();
 
-			buffer.addVertex(vector4f.x(), vector4f.y(), vector4f.z(), renderColor, texU, texV,
-					packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
+			RenderUtil.addTransformedVertex(buffer, poseState, vertex.position().x(), vertex.position().y(), vertex.position().z(), renderColor, texU, texV,
+					packedOverlay, packedLight, normal);
 		}
 	}
 
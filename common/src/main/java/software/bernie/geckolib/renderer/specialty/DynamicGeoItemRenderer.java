@@ -11,8 +11,8 @@ import net.minecraft.world.item.Item;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.joml.Vector4f;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.*;
 import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.GeoItemRenderer;
@@ -86,11 +86,13 @@ public abstract class DynamicGeoItemRenderer<T extends Item & GeoAnimatable> ext
 		RenderUtil.rotateMatrixAroundBone(poseStack, bone);
 		RenderUtil.scaleMatrixForBone(poseStack, bone);
 
-		if (bone.isTrackingMatrices()) {
+		BonePoseBuffer pose = BonePoseBuffer.getRendering();
+
+		if (pose.isTrackingMatrices(bone.getIndex())) {
 			Matrix4f poseState = new Matrix4f(poseStack.last().pose());
 
-			bone.setModelSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
-			bone.setLocalSpaceMatrix(RenderUtil.invertAndMultiplyMatrices(poseState, this.itemRenderTranslations));
+			pose.setModelSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.modelRenderTranslations));
+			pose.setLocalSpaceMatrix(bone.getIndex(), RenderUtil.invertAndMultiplyMatrices(poseState, this.itemRenderTranslations));
 		}
 
 		RenderUtil.translateAwayFromPivotPoint(poseStack, bone);
@@ -159,12 +161,11 @@ public abstract class DynamicGeoItemRenderer<T extends Item & GeoAnimatable> ext
 		}
 
 		for (GeoVertex vertex : quad.vertices()) {
-			Vector4f vector4f = poseState.transform(new Vector4f(vertex.position().x(), vertex.position().y(), vertex.position().z(), 1.0f));
 			float texU = (vertex.texU() * itemTextureSize.firstInt()) / boneTextureSize.firstInt();
 			float texV = (vertex.texV() * itemTextureSize.secondInt()) / boneTextureSize.secondInt();
 
-			buffer.addVertex(vector4f.x(), vector4f.y(), vector4f.z(), renderColor, texU, texV,
-					packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
+			RenderUtil.addTransformedVertex(buffer, poseState, vertex.position().x(), vertex.position().y(), vertex.position().z(), renderColor, texU, texV,
+					packedOverlay, packedLight, normal);
 		}
 	}
 
@@ -0,0 +1,143 @@
+package software.bernie.geckolib.util;
+
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import net.minecraft.util.ARGB;
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.ApiStatus;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.lwjgl.system.MemoryUtil;
+import software.bernie.geckolib.cache.object.GeoCube;
+import software.bernie.geckolib.cache.object.PackedCubes;
+import software.bernie.geckolib.mixin.client.BufferBuilderAccessor;
+
+import java.nio.ByteOrder;
+
+/**
+ * Bulk writer of {@link PackedCubes packed cube data} directly into the memory of a {@link BufferBuilder}, bypassing the per-vertex {@link VertexConsumer} calls
+ * <p>
+ * Only used for plain <code>BufferBuilders</code> building quads in the {@link DefaultVertexFormat#NEW_ENTITY entity vertex format}.<br>
+ * Any other consumer, such as those wrapped or replaced by shader mods, falls back to the regular {@link VertexConsumer#addVertex} path
+ * <p>
+ * The written data is identical to what the <code>BufferBuilder</code> would write itself for the same vertices
+ */
+@ApiStatus.Internal
+public final class DirectVertexWriter {
+	/**
+	 * Whether vertex data should be written directly into compatible buffers, where possible
+	 */
+	public static boolean ENABLED = true;
+
+	private static final boolean IS_LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+	private static final int VERTEX_SIZE = 36;
+	private static final int COLOR_OFFSET = 12;
+	private static final int UV_OFFSET = 16;
+	private static final int OVERLAY_OFFSET = 24;
+	private static final int LIGHT_OFFSET = 28;
+	private static final int NORMAL_OFFSET = 32;
+
+	private DirectVertexWriter() {}
+
+	/**
+	 * Whether the given buffer can have vertex data written directly into it
+	 */
+	public static boolean canWriteDirectly(VertexConsumer buffer) {
+		if (!ENABLED || buffer.getClass() != BufferBuilder.class)
+			return false;
+
+		BufferBuilderAccessor accessor = (BufferBuilderAccessor)buffer;
+
+		return accessor.geckolib$isBuilding() &&
+			   accessor.geckolib$getElementsToFill() == 0 &&
+			   accessor.geckolib$getMode() == VertexFormat.Mode.QUADS &&
+			   accessor.geckolib$getFormat() == DefaultVertexFormat.NEW_ENTITY &&
+			   DefaultVertexFormat.NEW_ENTITY.getVertexSize() == VERTEX_SIZE;
+	}
+
+	/**
+	 * Write all the quads of the given packed cube data into the buffer in one go, if the buffer {@link #canWriteDirectly supports it}
+	 *
+	 * @return Whether the data was written. If false, nothing was written and the caller should fall back to adding the vertices normally
+	 */
+	public static boolean writePackedCubes(VertexConsumer buffer, PackedCubes packedCubes, PoseStack.Pose pose, int color, int packedOverlay, int packedLight) {
+		if (!canWriteDirectly(buffer))
+			return false;
+
+		int vertexCount = packedCubes.quadCount() * 4;
+
+		if (vertexCount == 0)
+			return true;
+
+		BufferBuilderAccessor accessor = (BufferBuilderAccessor)buffer;
+		GeoCube[] cubes = packedCubes.cubes();
+		int[] quadOffsets = packedCubes.quadOffsets();
+		float[] vertexData = packedCubes.vertexData();
+		Matrix4f poseState = pose.pose();
+		Matrix3f normalisedPoseState = pose.normal();
+		Vector3f normal = RenderUtil.getScratchNormal();
+		int abgrColor = ARGB.toABGR(color);
+		long pointer = accessor.geckolib$getBuffer().reserve(vertexCount * VERTEX_SIZE);
+
+		if (!IS_LITTLE_ENDIAN)
+			abgrColor = Integer.reverseBytes(abgrColor);
+
+		for (int i = 0; i < cubes.length; i++) {
+			GeoCube cube = cubes[i];
+
+			for (int quad = quadOffsets[i]; quad < quadOffsets[i + 1]; quad++) {
+				int index = quad * PackedCubes.QUAD_STRIDE;
+
+				normalisedPoseState.transform(vertexData[index], vertexData[index + 1], vertexData[index + 2], normal);
+				RenderUtil.fixInvertedFlatCube(cube, normal);
+
+				byte normalX = normalByte(normal.x());
+				byte normalY = normalByte(normal.y());
+				byte normalZ = normalByte(normal.z());
+
+				for (index += 3; index < (quad + 1) * PackedCubes.QUAD_STRIDE; index += PackedCubes.VERTEX_STRIDE) {
+					float x = vertexData[index];
+					float y = vertexData[index + 1];
+					float z = vertexData[index + 2];
+
+					MemoryUtil.memPutFloat(pointer, poseState.m00() * x + (poseState.m10() * y + (poseState.m20() * z + poseState.m30())));
+					MemoryUtil.memPutFloat(pointer + 4, poseState.m01() * x + (poseState.m11() * y + (poseState.m21() * z + poseState.m31())));
+					MemoryUtil.memPutFloat(pointer + 8, poseState.m02() * x + (poseState.m12() * y + (poseState.m22() * z + poseState.m32())));
+					MemoryUtil.memPutInt(pointer + COLOR_OFFSET, abgrColor);
+					MemoryUtil.memPutFloat(pointer + UV_OFFSET, vertexData[index + 3]);
+					MemoryUtil.memPutFloat(pointer + UV_OFFSET + 4, vertexData[index + 4]);
+					putPackedUv(pointer + OVERLAY_OFFSET, packedOverlay);
+					putPackedUv(pointer + LIGHT_OFFSET, packedLight);
+					MemoryUtil.memPutByte(pointer + NORMAL_OFFSET, normalX);
+					MemoryUtil.memPutByte(pointer + NORMAL_OFFSET + 1, normalY);
+					MemoryUtil.memPutByte(pointer + NORMAL_OFFSET + 2, normalZ);
+
+					pointer += VERTEX_SIZE;
+				}
+			}
+		}
+
+		accessor.geckolib$setVertices(accessor.geckolib$getVertices() + vertexCount);
+		accessor.geckolib$setVertexPointer(pointer - VERTEX_SIZE);
+
+		return true;
+	}
+
+	private static void putPackedUv(long pointer, int packedUv) {
+		if (IS_LITTLE_ENDIAN) {
+			MemoryUtil.memPutInt(pointer, packedUv);
+		}
+		else {
+			MemoryUtil.memPutShort(pointer, (short)(packedUv & 0xFFFF));
+			MemoryUtil.memPutShort(pointer + 2, (short)(packedUv >> 16 & 0xFFFF));
+		}
+	}
+
+	private static byte normalByte(float value) {
+		return (byte)((int)(Mth.clamp(value, -1f, 1f) * 127f) & 0xFF);
+	}
+}
@@ -3,6 +3,7 @@ package software.bernie.geckolib.util;
 import com.mojang.blaze3d.Blaze3D;
 import com.mojang.blaze3d.platform.NativeImage;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
 import it.unimi.dsi.fastutil.ints.IntIntImmutablePair;
 import it.unimi.dsi.fastutil.ints.IntIntPair;
@@ -25,6 +26,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.equipment.EquipmentModel;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.joml.Quaternionf;
@@ -32,8 +34,10 @@ import org.joml.Vector3f;
 import software.bernie.geckolib.GeckoLibConstants;
 import software.bernie.geckolib.GeckoLibServices;
 import software.bernie.geckolib.animatable.GeoAnimatable;
+import software.bernie.geckolib.animation.state.BonePoseBuffer;
 import software.bernie.geckolib.cache.object.GeoBone;
 import software.bernie.geckolib.cache.object.GeoCube;
+import software.bernie.geckolib.cache.object.GeoQuad;
 import software.bernie.geckolib.model.GeoModel;
 import software.bernie.geckolib.renderer.GeoRenderer;
 import software.bernie.geckolib.renderer.GeoReplacedEntityRenderer;
@@ -42,19 +46,51 @@ import software.bernie.geckolib.renderer.GeoReplacedEntityRenderer;
  * Helper class for various methods and functions useful while rendering
  */
 public final class RenderUtil {
+	private static final ThreadLocal<Vector3f> SCRATCH_NORMAL = ThreadLocal.withInitial(Vector3f::new);
+	private static final ClassValue<Boolean> DEFAULT_CUBE_RENDERING = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("renderCube", PoseStack.class, GeoCube.class, VertexConsumer.class, int.class, int.class, int.class).getDeclaringClass() == GeoRenderer.class &&
+					   type.getMethod("createVerticesOfQuad", GeoQuad.class, Matrix4f.class, Vector3f.class, VertexConsumer.class, int.class, int.class, int.class).getDeclaringClass() == GeoRenderer.class;
+			}
+			catch (NoSuchMethodException ex) {
+				return false;
+			}
+		}
+	};
+
+	/**
+	 * Translate the PoseStack by the given bone's position in the {@link BonePoseBuffer#getRendering() pose currently being rendered}
+	 */
 	public static void translateMatrixToBone(PoseStack poseStack, GeoBone bone) {
-		poseStack.translate(-bone.getPosX() / 16f, bone.getPosY() / 16f, bone.getPosZ() / 16f);
+		translateMatrixToBone(poseStack, BonePoseBuffer.getRendering(), bone);
+	}
+
+	public static void translateMatrixToBone(PoseStack poseStack, BonePoseBuffer pose, GeoBone bone) {
+		int index = bone.getIndex();
+
+		poseStack.translate(-pose.getPosX(index) / 16f, pose.getPosY(index) / 16f, pose.getPosZ(index) / 16f);
 	}
 
+	/**
+	 * Rotate the PoseStack by the given bone's rotation in the {@link BonePoseBuffer#getRendering() pose currently being rendered}
+	 */
 	public static void rotateMatrixAroundBone(PoseStack poseStack, GeoBone bone) {
-		if (bone.getRotZ() != 0)
-			poseStack.mulPose(Axis.ZP.rotation(bone.getRotZ()));
+		rotateMatrixAroundBone(poseStack, BonePoseBuffer.getRendering(), bone);
+	}
 
-		if (bone.getRotY() != 0)
-			poseStack.mulPose(Axis.YP.rotation(bone.getRotY()));
+	public static void rotateMatrixAroundBone(PoseStack poseStack, BonePoseBuffer pose, GeoBone bone) {
+		int index = bone.getIndex();
 
-		if (bone.getRotX() != 0)
-			poseStack.mulPose(Axis.XP.rotation(bone.getRotX()));
+		if (pose.getRotZ(index) != 0)
+			poseStack.mulPose(Axis.ZP.rotation(pose.getRotZ(index)));
+
+		if (pose.getRotY(index) != 0)
+			poseStack.mulPose(Axis.YP.rotation(pose.getRotY(index)));
+
+		if (pose.getRotX(index) != 0)
+			poseStack.mulPose(Axis.XP.rotation(pose.getRotX(index)));
 	}
 
 	public static void rotateMatrixAroundCube(PoseStack poseStack, GeoCube cube) {
@@ -65,8 +101,17 @@ public final class RenderUtil {
 		poseStack.mulPose(new Quaternionf().rotationXYZ((float)rotation.x(), 0, 0));
 	}
 
+	/**
+	 * Scale the PoseStack by the given bone's scale in the {@link BonePoseBuffer#getRendering() pose currently being rendered}
+	 */
 	public static void scaleMatrixForBone(PoseStack poseStack, GeoBone bone) {
-		poseStack.scale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+		scaleMatrixForBone(poseStack, BonePoseBuffer.getRendering(), bone);
+	}
+
+	public static void scaleMatrixForBone(PoseStack poseStack, BonePoseBuffer pose, GeoBone bone) {
+		int index = bone.getIndex();
+
+		poseStack.scale(pose.getScaleX(index), pose.getScaleY(index), pose.getScaleZ(index));
 	}
 
 	public static void translateToPivotPoint(PoseStack poseStack, GeoCube cube) {
@@ -89,15 +134,26 @@ public final class RenderUtil {
 	}
 
 	public static void translateAndRotateMatrixForBone(PoseStack poseStack, GeoBone bone) {
+		translateAndRotateMatrixForBone(poseStack, BonePoseBuffer.getRendering(), bone);
+	}
+
+	public static void translateAndRotateMatrixForBone(PoseStack poseStack, BonePoseBuffer pose, GeoBone bone) {
 		translateToPivotPoint(poseStack, bone);
-		rotateMatrixAroundBone(poseStack, bone);
+		rotateMatrixAroundBone(poseStack, pose, bone);
 	}
 
+	/**
+	 * Apply the given bone's transforms in the {@link BonePoseBuffer#getRendering() pose currently being rendered} to the PoseStack
+	 */
 	public static void prepMatrixForBone(PoseStack poseStack, GeoBone bone) {
-		translateMatrixToBone(poseStack, bone);
+		prepMatrixForBone(poseStack, BonePoseBuffer.getRendering(), bone);
+	}
+
+	public static void prepMatrixForBone(PoseStack poseStack, BonePoseBuffer pose, GeoBone bone) {
+		translateMatrixToBone(poseStack, pose, bone);
 		translateToPivotPoint(poseStack, bone);
-		rotateMatrixAroundBone(poseStack, bone);
-		scaleMatrixForBone(poseStack, bone);
+		rotateMatrixAroundBone(poseStack, pose, bone);
+		scaleMatrixForBone(poseStack, pose, bone);
 		translateAwayFromPivotPoint(poseStack, bone);
 	}
 	
@@ -204,12 +260,12 @@ public final class RenderUtil {
 	}
 
 	/**
-	 * Rotates a {@link GeoBone} to match a provided {@link ModelPart}'s rotations
+	 * Rotates a {@link GeoBone} in the given pose to match a provided {@link ModelPart}'s rotations
 	 * <p>
 	 * Usually used for items or armor rendering to match the rotations of other non-geo model parts
 	 */
-	public static void matchModelPartRot(ModelPart from, GeoBone to) {
-		to.updateRotation(-from.xRot, -from.yRot, from.zRot);
+	public static void matchModelPartRot(ModelPart from, BonePoseBuffer pose, GeoBone to) {
+		pose.updateRotation(to.getIndex(), -from.xRot, -from.yRot, from.zRot);
 	}
 
 	/**
@@ -229,6 +285,36 @@ public final class RenderUtil {
 			normal.mul(1, 1, -1);
 	}
 
+	/**
+	 * Get a reusable {@link Vector3f} for transforming quad normals into during rendering, to avoid allocating a new vector per quad
+	 * <p>
+	 * The returned vector is shared by all rendering on the current thread, so it should only be used for the duration of a single quad
+	 */
+	@ApiStatus.Internal
+	public static Vector3f getScratchNormal() {
+		return SCRATCH_NORMAL.get();
+	}
+
+	/**
+	 * Whether the given renderer uses GeckoLib's default cube and quad rendering, and can therefore render from {@link software.bernie.geckolib.cache.object.PackedCubes packed cube data} instead
+	 */
+	public static boolean usesDefaultCubeRendering(GeoRenderer<?> renderer) {
+		return DEFAULT_CUBE_RENDERING.get(renderer.getClass());
+	}
+
+	/**
+	 * Transform a vertex position by the given pose and add it to the buffer, without allocating any intermediate vectors
+	 * <p>
+	 * The transformation is performed in the same order as {@link Matrix4f#transform(org.joml.Vector4f)}, so the output is identical
+	 */
+	public static void addTransformedVertex(VertexConsumer buffer, Matrix4f pose, float x, float y, float z, int color, float texU, float texV,
+											int packedOverlay, int packedLight, Vector3f normal) {
+		buffer.addVertex(pose.m00() * x + (pose.m10() * y + (pose.m20() * z + pose.m30())),
+				pose.m01() * x + (pose.m11() * y + (pose.m21() * z + pose.m31())),
+				pose.m02() * x + (pose.m12() * y + (pose.m22() * z + pose.m32())),
+				color, texU, texV, packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
+	}
+
 	/**
 	 * Converts a {@link Direction} to a rotational float for rotation purposes
 	 */
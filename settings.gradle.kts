@@ -52,3 +52,4 @@ include("common")
 include("fabric")
 include("forge")
 include("neoforge")
+include("benchmark")